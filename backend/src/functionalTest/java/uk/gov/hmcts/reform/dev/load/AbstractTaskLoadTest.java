@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.dev.load;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Drives the task endpoints with many concurrent clients and logs throughput.
+ * Subclasses pick the request execution mode; run both with {@code ./gradlew loadTest} and compare the output.
+ */
+@Tag("load")
+abstract class AbstractTaskLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractTaskLoadTest.class);
+
+    private static final int CLIENTS = Integer.getInteger("loadTest.clients", 1000);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadTest.seconds", 20));
+    private static final int SEED_TASKS = 500;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    protected abstract String mode();
+
+    @BeforeEach
+    void seed() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < SEED_TASKS; i++) {
+            tasks.add(new Task("Load task " + i, null, TaskStatus.TODO, LocalDateTime.now().plusDays(i % 30)));
+        }
+        taskRepository.saveAll(tasks).forEach(task -> ids.add(task.getId()));
+    }
+
+    @Test
+    void sustainsConcurrentReadsAndWrites() throws Exception {
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        AtomicLong latencyNanos = new AtomicLong();
+        long deadline = System.nanoTime() + DURATION.toNanos();
+
+        // Clients always run on virtual threads so the client side is never the bottleneck
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(clients).build()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = nextRequest();
+                        long start = System.nanoTime();
+                        try {
+                            int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status < 400) {
+                                succeeded.incrementAndGet();
+                                latencyNanos.addAndGet(System.nanoTime() - start);
+                            } else if (status == 503) {
+                                rejected.incrementAndGet();
+                            } else {
+                                failed.incrementAndGet();
+                                firstFailure.compareAndSet(null, new IllegalStateException(
+                                    "HTTP " + status + " from " + request.method() + " " + request.uri()));
+                            }
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                            firstFailure.compareAndSet(null, e);
+                        }
+                    }
+                    return null;
+                });
+            }
+            clients.shutdown();
+            Assertions.assertTrue(clients.awaitTermination(DURATION.toSeconds() + 60, TimeUnit.SECONDS));
+        }
+
+        long ok = succeeded.get();
+        log.info("[{}] clients={} seconds={} ok={} rejected={} failed={} throughput={} req/s meanLatency={} ms",
+                 mode(), CLIENTS, DURATION.toSeconds(), ok, rejected.get(), failed.get(),
+                 String.format("%.1f", ok / (double) DURATION.toSeconds()),
+                 String.format("%.1f", ok == 0 ? 0.0 : latencyNanos.get() / (double) ok / 1_000_000));
+
+        if (failed.get() > 0) {
+            Throwable first = firstFailure.get();
+            Assertions.fail(failed.get() + " requests failed with errors other than 503, first: " + first, first);
+        }
+        Assertions.assertTrue(ok > 0, "No requests succeeded");
+    }
+
+    private HttpRequest nextRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long id = ids.get(random.nextInt(ids.size()));
+        String base = "http://localhost:" + port + "/tasks";
+        if (random.nextInt(10) == 0) {
+            return HttpRequest.newBuilder(URI.create(base + "/" + id + "/status"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"status\":\"IN_PROGRESS\"}"))
+                .build();
+        }
+        if (random.nextBoolean()) {
+            return HttpRequest.newBuilder(URI.create(base + "/" + id)).GET().build();
+        }
+        return HttpRequest.newBuilder(URI.create(base + "/page?size=20")).GET().build();
+    }
+}
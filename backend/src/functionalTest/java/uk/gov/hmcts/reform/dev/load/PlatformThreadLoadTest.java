@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.dev.load;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.threads.virtual.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:load-platform;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        // Measures raw capacity, so one client must not be throttled or shed
+        "tasks.rate-limit.enabled=false",
+        "tasks.load-shedding.enabled=false",
+        "logging.level.org.springframework.web=WARN",
+        "logging.level.org.hibernate=WARN"
+    }
+)
+class PlatformThreadLoadTest extends AbstractTaskLoadTest {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,104 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import jakarta.servlet.http.Cookie;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.dev.filters.ReadYourWritesFilter;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskPageOrder;
+import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Two H2 databases stand in for the primary and the replica. Nothing replicates between them, so a row is
+ * only visible to reads that were routed to the database it was written to.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "tasks.datasource.replica.enabled=true",
+    "tasks.datasource.replica.jdbc-url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+    "tasks.datasource.replica.read-your-writes-window=1m",
+    "tasks.scheduling.enabled=false",
+    "tasks.outbox.relay.enabled=false"
+})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTest {
+
+    private static final String TASK_JSON =
+        "{\"title\":\"Written to primary\",\"status\":\"TODO\",\"dueDate\":\"2030-01-01T09:00\"}";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setup() {
+        Flyway.configure()
+            .dataSource(replicaDataSource)
+            .locations("classpath:db/migration/common")
+            .load()
+            .migrate();
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.update("delete from tasks");
+        new JdbcTemplate(primaryDataSource).update("delete from tasks");
+    }
+
+    @Test
+    void readOnlyCalls_ShouldUseReplicaAndWritesThePrimary() {
+        Task written = taskService.createTask(
+            new TaskRequest("Written to primary", null, TaskStatus.TODO, LocalDateTime.now().plusDays(1)));
+        replica.update("insert into tasks (id, title, status, due_date, version) values (?, ?, ?, ?, 0)",
+                       written.getId() + 1000, "Replica only", "TODO", LocalDateTime.now().plusDays(2));
+
+        assertThat(taskService.getTaskPage(null, 10, TaskPageOrder.ID).getItems())
+            .extracting(Task::getTitle)
+            .containsExactly("Replica only");
+    }
+
+    @Test
+    void readsAfterWrite_ShouldStayOnPrimaryForThatClient() throws Exception {
+        Cookie primaryUntil = mockMvc.perform(post("/tasks").contentType(MediaType.APPLICATION_JSON).content(TASK_JSON))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getCookie(ReadYourWritesFilter.PRIMARY_UNTIL_COOKIE);
+
+        assertThat(primaryUntil).isNotNull();
+        mockMvc.perform(get("/tasks").cookie(primaryUntil))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].title").value("Written to primary"));
+        mockMvc.perform(get("/tasks"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+    }
+}
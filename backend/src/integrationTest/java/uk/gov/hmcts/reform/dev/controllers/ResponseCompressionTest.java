@@ -0,0 +1,87 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the embedded Tomcat rather than MockMvc, since response compression happens in the connector.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:compression-test;DB_CLOSE_DELAY=-1",
+    "tasks.scheduling.enabled=false",
+    "tasks.outbox.relay.enabled=false"
+})
+class ResponseCompressionTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void seed() {
+        taskRepository.deleteAll();
+        List<Task> tasks = new ArrayList<>();
+        // Well above server.compression.min-response-size
+        for (int i = 0; i < 100; i++) {
+            tasks.add(new Task("Compressed task " + i, "Description " + i, TaskStatus.TODO,
+                               LocalDateTime.now().plusDays(1)));
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @DisplayName("Should gzip the task list and still answer 304 to its weak ETag")
+    @Test
+    void taskListIsCompressedWithWeakETag() throws Exception {
+        HttpResponse<byte[]> response = http.send(
+            HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/tasks"))
+                .header("Accept-Encoding", "gzip")
+                .build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        String eTag = response.headers().firstValue("ETag").orElseThrow();
+        assertThat(eTag).startsWith("W/\"");
+        assertThat(gunzip(response.body())).startsWith("[").contains("Compressed task 99");
+
+        HttpResponse<Void> repeat = http.send(
+            HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/tasks"))
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", eTag)
+                .build(),
+            HttpResponse.BodyHandlers.discarding());
+
+        assertThat(repeat.statusCode()).isEqualTo(304);
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import uk.gov.hmcts.reform.dev.models.idempotency.IdempotencyRecord;
+import uk.gov.hmcts.reform.dev.repositories.IdempotencyRecordRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:idempotency-test;DB_CLOSE_DELAY=-1",
+    "tasks.scheduling.enabled=false"
+})
+@AutoConfigureMockMvc
+class IdempotencyFilterTest {
+
+    private static final String TASK_JSON =
+        "{\"title\":\"Review bundle\",\"status\":\"TODO\",\"dueDate\":\"2030-01-01T09:00\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void repeatedCreate_ShouldReplayFirstResponseWithoutCreatingAgain() throws Exception {
+        String key = UUID.randomUUID().toString();
+        long before = taskRepository.count();
+
+        MvcResult first = mockMvc.perform(createTask(key, TASK_JSON))
+            .andExpect(status().isCreated())
+            .andReturn();
+        MvcResult repeat = mockMvc.perform(createTask(key, TASK_JSON))
+            .andExpect(status().isCreated())
+            .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+            .andReturn();
+
+        assertThat(repeat.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+        assertThat(taskRepository.count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void reusedKeyWithDifferentBody_ShouldBeRejected() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        mockMvc.perform(createTask(key, TASK_JSON)).andExpect(status().isCreated());
+
+        mockMvc.perform(createTask(key, TASK_JSON.replace("Review bundle", "Other task")))
+            .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void invalidRequest_ShouldBeStoredAndReplayed() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String invalid = TASK_JSON.replace("Review bundle", "");
+
+        mockMvc.perform(createTask(key, invalid)).andExpect(status().isBadRequest());
+
+        mockMvc.perform(createTask(key, invalid))
+            .andExpect(status().isBadRequest())
+            .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+    }
+
+    @Test
+    void repeatedCreate_ShouldReplayLocationAndEtag() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        MvcResult first = mockMvc.perform(createTask(key, TASK_JSON))
+            .andExpect(status().isCreated())
+            .andReturn();
+
+        mockMvc.perform(createTask(key, TASK_JSON))
+            .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+            .andExpect(header().string(HttpHeaders.LOCATION, first.getResponse().getHeader(HttpHeaders.LOCATION)))
+            .andExpect(header().string(HttpHeaders.ETAG, first.getResponse().getHeader(HttpHeaders.ETAG)));
+    }
+
+    @Test
+    void sameKeyFromDifferentClients_ShouldBeProcessedForEach() throws Exception {
+        String key = UUID.randomUUID().toString();
+        long before = taskRepository.count();
+
+        mockMvc.perform(createTask(key, TASK_JSON).with(remoteAddr("10.0.0.1")))
+            .andExpect(status().isCreated());
+        mockMvc.perform(createTask(key, TASK_JSON).with(remoteAddr("10.0.0.2")))
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        assertThat(taskRepository.count()).isEqualTo(before + 2);
+    }
+
+    @Test
+    void retryAfterLapsedLease_ShouldTakeOverAbandonedKey() throws Exception {
+        String key = UUID.randomUUID().toString();
+        long before = taskRepository.count();
+        // A first attempt whose instance died mid-request: claimed, never completed, lease already lapsed
+        mockMvc.perform(createTask(key, TASK_JSON)).andExpect(status().isCreated());
+        IdempotencyRecord record = idempotencyRecordRepository.findAll().stream()
+            .filter(r -> r.getKey().endsWith(":" + key))
+            .findFirst()
+            .orElseThrow();
+        jdbcTemplate.update("update idempotency_keys set response_status = null, locked_until = ?"
+                                + " where idempotency_key = ?", LocalDateTime.now().minusSeconds(1), record.getKey());
+
+        mockMvc.perform(createTask(key, TASK_JSON))
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+        mockMvc.perform(createTask(key, TASK_JSON))
+            .andExpect(status().isCreated())
+            .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+
+        assertThat(taskRepository.count()).isEqualTo(before + 2);
+    }
+
+    @Test
+    void retryWithinLease_ShouldBeToldToRetryLater() throws Exception {
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(createTask(key, TASK_JSON)).andExpect(status().isCreated());
+        IdempotencyRecord record = idempotencyRecordRepository.findAll().stream()
+            .filter(r -> r.getKey().endsWith(":" + key))
+            .findFirst()
+            .orElseThrow();
+        jdbcTemplate.update("update idempotency_keys set response_status = null, locked_until = ?"
+                                + " where idempotency_key = ?", LocalDateTime.now().plusMinutes(1), record.getKey());
+
+        mockMvc.perform(createTask(key, TASK_JSON))
+            .andExpect(status().isConflict())
+            .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void requestWithoutKey_ShouldNotBeDeduplicated() throws Exception {
+        long before = taskRepository.count();
+
+        mockMvc.perform(post("/tasks").contentType(MediaType.APPLICATION_JSON).content(TASK_JSON))
+            .andExpect(status().isCreated());
+        mockMvc.perform(post("/tasks").contentType(MediaType.APPLICATION_JSON).content(TASK_JSON))
+            .andExpect(status().isCreated());
+
+        assertThat(taskRepository.count()).isEqualTo(before + 2);
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+    private static MockHttpServletRequestBuilder createTask(String key, String json) {
+        return post("/tasks")
+            .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json);
+    }
+}
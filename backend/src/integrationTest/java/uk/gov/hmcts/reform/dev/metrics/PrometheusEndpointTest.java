@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.dev.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:metrics-test;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class PrometheusEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DisplayName("Should expose endpoint, repository and Hibernate timings in Prometheus format")
+    @Test
+    void exposesLatencyHistograms() throws Exception {
+        mockMvc.perform(get("/tasks")).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/prometheus"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+            .contains("http_server_requests_seconds_bucket")
+            .contains("uri=\"/tasks\"")
+            .contains("spring_data_repository_invocations_seconds_bucket")
+            .contains("hibernate_statements_total");
+    }
+}
@@ -0,0 +1,138 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.models.idempotency.IdempotencyRecord;
+import uk.gov.hmcts.reform.dev.models.scheduling.TaskScanLease;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskSearchCriteria;
+import uk.gov.hmcts.reform.dev.models.task.TaskSortField;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the Flyway migrations used by the postgres profile against H2 in PostgreSQL mode, with Hibernate
+ * schema generation switched off, so the mappings are exercised against the migrated schema only.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:migration-test;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+        + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "tasks.scheduling.enabled=false",
+    "tasks.outbox.relay.enabled=false"
+})
+@AutoConfigureMockMvc
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private TaskScanLeaseRepository leaseRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DisplayName("Should apply the migrations with the indexes the task queries rely on")
+    @Test
+    void appliesBaselineMigration() throws Exception {
+        assertThat(flyway.info().applied()).extracting(info -> info.getVersion().getVersion()).contains("1", "3", "4");
+
+        Set<String> indexes = new HashSet<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet rs = connection.getMetaData().getIndexInfo(null, null, "tasks", false, false)) {
+            while (rs.next()) {
+                String name = rs.getString("INDEX_NAME");
+                if (name != null) {
+                    indexes.add(name.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+
+        assertThat(indexes).contains(
+            "idx_tasks_due_date_id",
+            "idx_tasks_status_due_date",
+            "idx_tasks_created_at",
+            "idx_tasks_updated_at",
+            "idx_tasks_title",
+            "idx_tasks_due_soon_pending",
+            "idx_tasks_overdue_pending"
+        );
+    }
+
+    @DisplayName("Should create and search tasks, writing outbox rows, against the migrated schema")
+    @Test
+    void tasksRoundTripThroughMigratedSchema() {
+        long outboxBefore = outboxEventRepository.count();
+        Task created = taskService.createTask(
+            new TaskRequest("Migration check", "Created on the Flyway schema", TaskStatus.TODO,
+                            LocalDateTime.now().plusDays(1)));
+
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setTitlePrefix("Migration");
+
+        assertThat(taskService.getTaskById(created.getId()).getVersion()).isZero();
+        assertThat(taskService.searchTasks(criteria, TaskSortField.DUE_DATE, Sort.Direction.ASC, 0, 10).getItems())
+            .extracting(Task::getId)
+            .containsExactly(created.getId());
+        assertThat(outboxEventRepository.count()).isGreaterThan(outboxBefore);
+    }
+
+    @DisplayName("Should store idempotency records and scan leases in their migrated tables")
+    @Test
+    @Transactional
+    void supportingTablesMatchMappings() {
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyRecordRepository.saveAndFlush(new IdempotencyRecord("migration-key", "a".repeat(64), "owner-1",
+                                                                       now, now.plusHours(1), now.plusMinutes(1)));
+        leaseRepository.saveAndFlush(new TaskScanLease("migration-scan", now.minusMinutes(1)));
+
+        assertThat(idempotencyRecordRepository.findById("migration-key")).isPresent();
+        assertThat(idempotencyRecordRepository.complete("migration-key", "owner-1", 201, "application/json",
+                                                        "/tasks/1", "\"0\"", "{}")).isEqualTo(1);
+        assertThat(leaseRepository.acquire("migration-scan", "instance-1", now, now.plusMinutes(2))).isEqualTo(1);
+    }
+
+    @DisplayName("Should report the database in the readiness group")
+    @Test
+    void readinessIncludesDatabase() throws Exception {
+        mockMvc.perform(get("/health/readiness"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("UP"))
+            .andExpect(jsonPath("$.components.db.status").value("UP"));
+    }
+}
@@ -0,0 +1,159 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskCursor;
+import uk.gov.hmcts.reform.dev.models.task.TaskField;
+import uk.gov.hmcts.reform.dev.models.task.TaskListVersion;
+import uk.gov.hmcts.reform.dev.models.task.TaskPageOrder;
+import uk.gov.hmcts.reform.dev.models.task.TaskSearchCriteria;
+import uk.gov.hmcts.reform.dev.models.task.TaskSortField;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatusStats;
+import uk.gov.hmcts.reform.dev.models.task.TaskView;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+class TaskRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Task early;
+    private Task sameDueDate;
+    private Task late;
+
+    @BeforeEach
+    void setup() {
+        early = taskRepository.save(new Task("Review bundle", "First", TaskStatus.TODO, BASE));
+        sameDueDate = taskRepository.save(new Task("Review_notes", "Second", TaskStatus.IN_PROGRESS, BASE));
+        late = taskRepository.save(new Task("Hearing prep", "Third", TaskStatus.COMPLETED, BASE.plusDays(3)));
+    }
+
+    @Test
+    void findPageAfterId_ShouldReturnRowsAfterCursorInIdOrder() {
+        List<Task> page = taskRepository.findPageAfterId(early.getId(), PageRequest.of(0, 10));
+
+        assertThat(page).extracting(Task::getId).containsExactly(sameDueDate.getId(), late.getId());
+    }
+
+    @Test
+    void findPageAfterDueDate_ShouldBreakTiesOnId() {
+        List<Task> page = taskRepository.findPageAfterDueDate(BASE, early.getId(), PageRequest.of(0, 1));
+
+        assertThat(page).extracting(Task::getId).containsExactly(sameDueDate.getId());
+    }
+
+    @Test
+    void search_ShouldFilterByStatusAndDueRange() {
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setStatus(List.of(TaskStatus.TODO, TaskStatus.COMPLETED));
+        criteria.setDueFrom(BASE.plusDays(1));
+
+        List<Task> result = taskRepository.search(criteria, TaskSortField.DUE_DATE, Sort.Direction.ASC, 0, 10);
+
+        assertThat(result).extracting(Task::getId).containsExactly(late.getId());
+    }
+
+    @Test
+    void search_ShouldTreatLikeWildcardsInPrefixLiterally() {
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setTitlePrefix("Review_");
+
+        List<Task> result = taskRepository.search(criteria, TaskSortField.TITLE, Sort.Direction.DESC, 0, 10);
+
+        assertThat(result).extracting(Task::getId).containsExactly(sameDueDate.getId());
+    }
+
+    @Test
+    void searchViews_ShouldPopulateOnlySelectedFields() {
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setStatus(List.of(TaskStatus.TODO));
+
+        List<TaskView> result = taskRepository.searchViews(EnumSet.of(TaskField.ID, TaskField.TITLE), criteria,
+                                                           TaskSortField.ID, Sort.Direction.ASC, 0, 10);
+
+        assertThat(result).extracting(TaskView::getId, TaskView::getTitle, TaskView::getDescription)
+            .containsExactly(tuple(early.getId(), "Review bundle", null));
+    }
+
+    @Test
+    void findViewPage_ByDueDate_ShouldSeekPastCursor() {
+        TaskView last = new TaskView();
+        last.setId(early.getId());
+        last.setDueDate(BASE);
+
+        List<TaskView> page = taskRepository.findViewPage(EnumSet.of(TaskField.ID, TaskField.DUE_DATE),
+                                                          TaskCursor.after(last, TaskPageOrder.DUE_DATE),
+                                                          TaskPageOrder.DUE_DATE, 10);
+
+        assertThat(page).extracting(TaskView::getId).containsExactly(sameDueDate.getId(), late.getId());
+    }
+
+    @Test
+    void findStatusStats_ShouldGroupByStatusWithDueBuckets() {
+        List<TaskStatusStats> stats = taskRepository.findStatusStats(BASE.plusHours(1), BASE.plusDays(7));
+
+        assertThat(stats).extracting(TaskStatusStats::getStatus, TaskStatusStats::getTotal,
+                                     TaskStatusStats::getOverdue, TaskStatusStats::getDueThisWeek)
+            .containsExactlyInAnyOrder(
+                tuple(TaskStatus.TODO, 1L, 1L, 0L),
+                tuple(TaskStatus.IN_PROGRESS, 1L, 1L, 0L),
+                tuple(TaskStatus.COMPLETED, 1L, 0L, 1L)
+            );
+    }
+
+    @Test
+    void updateStatus_ShouldReturnAffectedRowCount() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(taskRepository.updateStatus(early.getId(), TaskStatus.COMPLETED, now)).isEqualTo(1);
+        assertThat(taskRepository.updateStatus(-1L, TaskStatus.COMPLETED, now)).isZero();
+        assertThat(taskRepository.findById(early.getId())).get()
+            .extracting(Task::getStatus)
+            .isEqualTo(TaskStatus.COMPLETED);
+    }
+
+    @Test
+    void deleteTaskById_ShouldReturnAffectedRowCount() {
+        assertThat(taskRepository.deleteTaskById(late.getId())).isEqualTo(1);
+        assertThat(taskRepository.deleteTaskById(late.getId())).isZero();
+        assertThat(taskRepository.existsById(late.getId())).isFalse();
+    }
+
+    @Test
+    void findListVersion_ShouldSummariseTable() {
+        TaskListVersion version = taskRepository.findListVersion();
+
+        assertThat(version.getCount()).isEqualTo(3L);
+        assertThat(version.getMaxId()).isEqualTo(late.getId());
+        assertThat(version.getLastUpdated()).isNotNull();
+    }
+
+    @Test
+    void updateStatusIfVersion_ShouldOnlyApplyAtExpectedVersion() {
+        Long version = early.getVersion();
+        LocalDateTime now = LocalDateTime.now();
+
+        Long id = early.getId();
+
+        assertThat(taskRepository.updateStatusIfVersion(id, TaskStatus.COMPLETED, version + 1, now)).isZero();
+        assertThat(taskRepository.updateStatusIfVersion(id, TaskStatus.COMPLETED, version, now)).isEqualTo(1);
+        assertThat(taskRepository.findById(id)).get()
+            .extracting(Task::getVersion)
+            .isEqualTo(version + 1);
+    }
+}
@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.reform.dev.models.archive.ArchivedTask;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.ArchivedTaskRepository;
+import uk.gov.hmcts.reform.dev.repositories.OutboxEventRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:archive-test;DB_CLOSE_DELAY=-1",
+    "tasks.scheduling.enabled=false",
+    "tasks.outbox.relay.enabled=false",
+    "tasks.archive.age=7d",
+    "tasks.archive.batch-size=2",
+    "tasks.archive.batch-pause=0ms"
+})
+class TaskArchiverTest {
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        archivedTaskRepository.deleteAll();
+        taskRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    void archiveCompletedTasks_ShouldMoveOnlyOldCompletedTasksInBatches() {
+        Task oldCompleted1 = createTask(TaskStatus.COMPLETED, 10);
+        Task oldCompleted2 = createTask(TaskStatus.COMPLETED, 9);
+        Task oldCompleted3 = createTask(TaskStatus.COMPLETED, 8);
+        Task recentCompleted = createTask(TaskStatus.COMPLETED, 1);
+        Task oldOpen = createTask(TaskStatus.IN_PROGRESS, 30);
+
+        int archived = taskArchiver.archiveCompletedTasks();
+
+        assertThat(archived).isEqualTo(3);
+        assertThat(taskRepository.findAll()).extracting(Task::getId)
+            .containsExactlyInAnyOrder(recentCompleted.getId(), oldOpen.getId());
+        assertThat(archivedTaskRepository.findAll()).extracting(ArchivedTask::getId)
+            .containsExactlyInAnyOrder(oldCompleted1.getId(), oldCompleted2.getId(), oldCompleted3.getId());
+        assertThat(outboxEventRepository.findAll())
+            .filteredOn(event -> "ARCHIVED".equals(event.getEventType()))
+            .hasSize(3);
+    }
+
+    @Test
+    void getTaskById_ShouldFindArchivedTask() {
+        Task completed = createTask(TaskStatus.COMPLETED, 10);
+
+        taskArchiver.archiveCompletedTasks();
+        Task found = taskService.getTaskById(completed.getId());
+
+        assertThat(taskRepository.existsById(completed.getId())).isFalse();
+        assertThat(found.getTitle()).isEqualTo("Archive candidate");
+        assertThat(found.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(found.getVersion()).isEqualTo(completed.getVersion());
+    }
+
+    private Task createTask(TaskStatus status, int daysSinceUpdate) {
+        Task task = taskService.createTask(
+            new TaskRequest("Archive candidate", null, status, LocalDateTime.now().minusDays(40)));
+        // updated_at is maintained by Hibernate, so age the row directly
+        jdbcTemplate.update("update tasks set updated_at = ? where id = ?",
+                            LocalDateTime.now().minusDays(daysSinceUpdate), task.getId());
+        return task;
+    }
+}
@@ -0,0 +1,135 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.models.outbox.OutboxEvent;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.OutboxEventRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskScanLeaseRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:due-test;DB_CLOSE_DELAY=-1",
+    "tasks.scheduling.enabled=false",
+    "tasks.outbox.relay.enabled=false"
+})
+class TaskDueSchedulerTest {
+
+    @Autowired
+    private TaskDueScheduler taskDueScheduler;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskScanLeaseRepository leaseRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        leaseRepository.deleteAll();
+        taskRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    void scanDueTasks_ShouldPublishEachOpenDueTaskOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        Task overdue = createTask(TaskStatus.TODO, now.minusHours(2));
+        createTask(TaskStatus.COMPLETED, now.minusHours(2));
+        Task dueSoon = createTask(TaskStatus.IN_PROGRESS, now.plusMinutes(30));
+        createTask(TaskStatus.TODO, now.plusDays(3));
+        outboxEventRepository.deleteAll();
+
+        taskDueScheduler.scanDueTasks();
+        taskDueScheduler.scanDueTasks();
+
+        assertThat(outboxEventRepository.findAll())
+            .extracting(OutboxEvent::getEventType, OutboxEvent::getAggregateId)
+            .containsExactlyInAnyOrder(tuple("DUE_SOON", dueSoon.getId()), tuple("OVERDUE", overdue.getId()));
+    }
+
+    @Test
+    void scanDueTasks_OnAnotherInstance_ShouldWaitForLease() {
+        taskDueScheduler.scanDueTasks();
+        Task overdue = createTask(TaskStatus.TODO, LocalDateTime.now().minusMinutes(5));
+        outboxEventRepository.deleteAll();
+        TaskDueScheduler otherInstance = new TaskDueScheduler(
+            taskRepository, leaseRepository, eventPublisher, transactionManager, meterRegistry,
+            200, Duration.ofHours(1), Duration.ofMinutes(2));
+
+        otherInstance.scanDueTasks();
+        assertThat(outboxEventRepository.count()).isZero();
+
+        taskDueScheduler.releaseLeases();
+        otherInstance.scanDueTasks();
+        assertThat(outboxEventRepository.findAll())
+            .extracting(OutboxEvent::getEventType, OutboxEvent::getAggregateId)
+            .containsExactly(tuple("OVERDUE", overdue.getId()));
+    }
+
+    @Test
+    void scanDueTasks_ForTaskDueBeforeAlreadyScannedTasks_ShouldStillPublish() {
+        LocalDateTime now = LocalDateTime.now();
+        createTask(TaskStatus.TODO, now.minusMinutes(10));
+        createTask(TaskStatus.TODO, now.plusMinutes(50));
+        taskDueScheduler.scanDueTasks();
+        outboxEventRepository.deleteAll();
+
+        // Due before the tasks the previous run published, e.g. created late or imported with a past date
+        Task overdue = createTask(TaskStatus.TODO, now.minusHours(3));
+        Task dueSoon = createTask(TaskStatus.IN_PROGRESS, now.plusMinutes(20));
+        taskDueScheduler.scanDueTasks();
+
+        assertThat(outboxEventRepository.findAll())
+            .extracting(OutboxEvent::getEventType, OutboxEvent::getAggregateId)
+            .containsExactlyInAnyOrder(tuple("DUE_SOON", dueSoon.getId()), tuple("OVERDUE", overdue.getId()));
+    }
+
+    @Test
+    void scanDueTasks_AfterDueDateChanges_ShouldPublishForNewDate() {
+        LocalDateTime now = LocalDateTime.now();
+        Task task = createTask(TaskStatus.TODO, now.plusMinutes(30));
+        taskDueScheduler.scanDueTasks();
+
+        taskService.updateTask(task.getId(), new TaskRequest("Due task", null, TaskStatus.TODO,
+                                                             now.plusMinutes(45)), null);
+        outboxEventRepository.deleteAll();
+        taskDueScheduler.scanDueTasks();
+
+        assertThat(outboxEventRepository.findAll())
+            .extracting(OutboxEvent::getEventType, OutboxEvent::getAggregateId)
+            .containsExactly(tuple("DUE_SOON", task.getId()));
+    }
+
+    private Task createTask(TaskStatus status, LocalDateTime dueDate) {
+        return taskService.createTask(new TaskRequest("Due task", null, status, dueDate));
+    }
+}
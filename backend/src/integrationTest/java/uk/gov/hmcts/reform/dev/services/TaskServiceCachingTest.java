@@ -0,0 +1,103 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.config.CacheConfig;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:cache-test;DB_CLOSE_DELAY=-1")
+class TaskServiceCachingTest {
+
+    @MockBean
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Task task;
+
+    @BeforeEach
+    void setup() {
+        cacheManager.getCache(CacheConfig.TASKS_CACHE).clear();
+        task = new Task("Task 1", "Description 1", TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        task.setId(1L);
+    }
+
+    @Test
+    void getTaskById_ShouldOnlyHitRepositoryOnceForRepeatedReads() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        taskService.getTaskById(1L);
+        taskService.getTaskById(1L);
+
+        verify(taskRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void deleteTask_ShouldEvictCachedTask() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.deleteTaskById(1L)).thenReturn(1);
+
+        taskService.getTaskById(1L);
+        taskService.deleteTask(1L);
+        taskService.getTaskById(1L);
+
+        verify(taskRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void updateTaskStatus_ShouldReplaceCachedTask() {
+        Task completed = new Task("Task 1", "Description 1", TaskStatus.COMPLETED, task.getDueDate());
+        completed.setId(1L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task), Optional.of(completed));
+        when(taskRepository.updateStatus(eq(1L), eq(TaskStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(1);
+
+        taskService.getTaskById(1L);
+        taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, null);
+
+        assertThat(taskService.getTaskById(1L).getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        verify(taskRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void updateTaskStatus_InRolledBackTransaction_ShouldLeaveCachedTask() {
+        Task completed = new Task("Task 1", "Description 1", TaskStatus.COMPLETED, task.getDueDate());
+        completed.setId(1L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task), Optional.of(completed));
+        when(taskRepository.updateStatus(eq(1L), eq(TaskStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(1);
+
+        taskService.getTaskById(1L);
+        // As in a group commit batch that fails after this write
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, null);
+            status.setRollbackOnly();
+        });
+
+        assertThat(taskService.getTaskById(1L).getStatus()).isEqualTo(TaskStatus.TODO);
+        verify(taskRepository, times(2)).findById(1L);
+    }
+}
@@ -0,0 +1,91 @@
+package uk.gov.hmcts.reform.dev.services.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import uk.gov.hmcts.reform.dev.models.outbox.OutboxEvent;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.OutboxEventRepository;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:outbox-test;DB_CLOSE_DELAY=-1",
+    "tasks.scheduling.enabled=false"
+})
+class OutboxRelayTest {
+
+    @MockBean
+    private OutboxSink sink;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    void setup() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    void taskChanges_ShouldBeWrittenToOutboxWithCommittedState() {
+        Task task = taskService.createTask(newRequest());
+        taskService.updateTask(task.getId(), newRequest(), null);
+
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+
+        assertThat(events).extracting(OutboxEvent::getEventType).containsExactly("CREATED", "UPDATED");
+        assertThat(events.get(1).getPayload()).contains("\"version\":1");
+    }
+
+    @Test
+    void rolledBackChange_ShouldNotBeWrittenToOutbox() {
+        Task task = taskService.createTask(newRequest());
+        outboxEventRepository.deleteAll();
+
+        assertThatThrownBy(() -> taskService.updateTask(task.getId(), newRequest(), 99L));
+
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void relayPending_ShouldDeliverAndRemoveEvents() {
+        taskService.createTask(newRequest());
+
+        outboxRelay.relayPending();
+
+        verify(sink).publish(anyList());
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void relayPending_WhenSinkFails_ShouldKeepEventsForRetry() {
+        taskService.createTask(newRequest());
+        doThrow(new IllegalStateException("sink down")).when(sink).publish(anyList());
+
+        outboxRelay.relayPending();
+
+        assertThat(outboxEventRepository.count()).isEqualTo(1);
+    }
+
+    private static TaskRequest newRequest() {
+        return new TaskRequest("Review bundle", "Outbox test", TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+    }
+}
@@ -0,0 +1,113 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the logging done on the task creation path: the previous three INFO payload lines per request
+ * against debug-level payload logging plus a sampled one-line summary, each through a synchronous or an
+ * asynchronous appender.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class RequestLoggingBenchmark {
+
+    @Param({"sync", "async"})
+    private String appender;
+
+    private LoggerContext loggerContext;
+    private Logger log;
+    private TaskRequest taskRequest;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        loggerContext = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] %logger{39} : %m%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+        output.setContext(loggerContext);
+        output.setEncoder(encoder);
+        output.setOutputStream(OutputStream.nullOutputStream());
+        output.start();
+
+        Appender<ILoggingEvent> root = output;
+        if ("async".equals(appender)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(loggerContext);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(0);
+            async.setNeverBlock(true);
+            async.addAppender(output);
+            async.start();
+            root = async;
+        }
+
+        log = loggerContext.getLogger("uk.gov.hmcts.reform.dev.services.TaskService");
+        log.setLevel(Level.INFO);
+        log.addAppender(root);
+        log.setAdditive(false);
+
+        taskRequest = new TaskRequest("Review bundle", "Check the hearing bundle is complete", TaskStatus.TODO,
+                                      LocalDateTime.now().plusDays(1));
+        task = taskRequest.toTask();
+        task.setId(1L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public void payloadAtInfo() {
+        log.info("Received task creation request: {}", taskRequest);
+        log.info("Creating task with data: {}", taskRequest);
+        log.info("Task saved successfully: {}", task);
+    }
+
+    @Benchmark
+    public void payloadAtDebugWithSampledSummary() {
+        log.debug("Creating task with data: {}", taskRequest);
+        log.debug("Task saved successfully: {}", task);
+        if (ThreadLocalRandom.current().nextDouble() < 0.01) {
+            log.info("request method={} route={} status={} durationMs={}", "POST", "/tasks", 201, 3L);
+        }
+    }
+}
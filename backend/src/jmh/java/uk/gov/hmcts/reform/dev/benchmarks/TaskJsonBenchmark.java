@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson (de)serialization of tasks, using the same ObjectMapper defaults as the application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskJsonBenchmark {
+
+    private ObjectWriter taskWriter;
+    private ObjectWriter taskListWriter;
+    private ObjectReader taskRequestReader;
+    private Task task;
+    private List<Task> tasks;
+    private String taskRequestJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        taskWriter = objectMapper.writerFor(Task.class);
+        taskListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                                                    .constructCollectionType(List.class, Task.class));
+        taskRequestReader = objectMapper.readerFor(TaskRequest.class);
+
+        task = newTask(1);
+        tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(newTask(i));
+        }
+        taskRequestJson = objectMapper.writeValueAsString(
+            new TaskRequest("Review bundle", "Check the hearing bundle is complete", TaskStatus.TODO,
+                            LocalDateTime.of(2030, 1, 1, 9, 30)));
+    }
+
+    @Benchmark
+    public String serializeTask() throws JsonProcessingException {
+        return taskWriter.writeValueAsString(task);
+    }
+
+    @Benchmark
+    public String serializeTaskList() throws JsonProcessingException {
+        return taskListWriter.writeValueAsString(tasks);
+    }
+
+    @Benchmark
+    public TaskRequest deserializeTaskRequest() throws JsonProcessingException {
+        return taskRequestReader.readValue(taskRequestJson);
+    }
+
+    private static Task newTask(int i) {
+        Task task = new Task("Task " + i, "Description " + i, TaskStatus.IN_PROGRESS,
+                             LocalDateTime.of(2030, 1, 1, 9, 30).plusHours(i));
+        task.setId((long) i);
+        task.setVersion(0L);
+        return task;
+    }
+}
@@ -0,0 +1,115 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.dev.Application;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskPage;
+import uk.gov.hmcts.reform.dev.models.task.TaskPageOrder;
+import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskService CRUD against an embedded H2 database, with the cache disabled so every call reaches the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    @Param({"100", "10000"})
+    private int datasetSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:jmh-" + datasetSize + ";DB_CLOSE_DELAY=-1",
+                "spring.cache.type=none",
+                // Keep background work off the measured threads' CPU and database
+                "tasks.scheduling.enabled=false",
+                "tasks.outbox.relay.enabled=false",
+                "tasks.async.enabled=false",
+                "tasks.search.load-on-startup=false",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN"
+            )
+            .run();
+        taskService = context.getBean(TaskService.class);
+
+        List<Task> tasks = new ArrayList<>(datasetSize);
+        for (int i = 0; i < datasetSize; i++) {
+            tasks.add(new Task("Task " + i, "Description " + i, TaskStatus.TODO,
+                               LocalDateTime.now().plusHours(i)));
+        }
+        ids = new ArrayList<>(datasetSize);
+        context.getBean(TaskRepository.class).saveAll(tasks).forEach(task -> ids.add(task.getId()));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task getTaskById() {
+        return taskService.getTaskById(randomId());
+    }
+
+    @Benchmark
+    public TaskPage<Task> getFullListPage() {
+        return taskService.getTaskPage(null, TaskService.MAX_PAGE_SIZE, TaskPageOrder.ID);
+    }
+
+    @Benchmark
+    public TaskPage<Task> getTaskPage() {
+        return taskService.getTaskPage(null, 50, TaskPageOrder.DUE_DATE);
+    }
+
+    @Benchmark
+    public Task updateTaskStatus() {
+        return taskService.updateTaskStatus(randomId(), TaskStatus.IN_PROGRESS, null);
+    }
+
+    @Benchmark
+    public Task createAndDeleteTask() {
+        Task task = taskService.createTask(
+            new TaskRequest("Benchmark task", "Created by JMH", TaskStatus.TODO, LocalDateTime.now().plusDays(1)));
+        taskService.deleteTask(task.getId());
+        return task;
+    }
+
+    private Long randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.dev.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeType;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.services.TaskTextIndex;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of full-text lookups against the in-memory index at different index sizes, for a term that
+ * matches one task and for two terms that each match a large share of tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskTextIndexBenchmark {
+
+    private static final String[] WORDS = {
+        "review", "bundle", "hearing", "court", "order", "draft", "letter", "appeal", "evidence", "witness",
+        "statement", "listing", "judge", "claimant", "respondent", "deadline", "service", "notice", "file", "case"
+    };
+
+    @Param({"100000", "1000000"})
+    private int documents;
+
+    private TaskTextIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new TaskTextIndex(null, null, null, new SimpleMeterRegistry(), Duration.ofMinutes(1),
+                                  false);
+        Random random = new Random(42);
+        LocalDateTime dueDate = LocalDateTime.now().plusDays(1);
+        for (long id = 1; id <= documents; id++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                + " " + id;
+            String description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            Task task = new Task(title, description, TaskStatus.TODO, dueDate);
+            task.setId(id);
+            task.setVersion(0L);
+            index.onTaskChange(TaskChangeEvent.of(TaskChangeType.CREATED, task));
+        }
+    }
+
+    @Benchmark
+    public List<Long> searchByUniqueTerm() {
+        return index.search(Integer.toString(documents / 2), 0, 50);
+    }
+
+    @Benchmark
+    public List<Long> searchTwoCommonTerms() {
+        return index.search("court bundle", 0, 50);
+    }
+}
@@ -0,0 +1,86 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String TASKS_CACHE = "tasks";
+    public static final String TASK_STATS_CACHE = "taskStats";
+
+    /**
+     * Make cache writes follow the surrounding transaction. Puts and evictions made inside a transaction
+     * are applied only after it commits, so a write that rolls back, such as a group commit batch in
+     * {@code AsyncTaskWriter}, never leaves its result in the cache. {@link CaffeineCacheManager} has no
+     * transaction-aware setting of its own, so the auto-configured manager is wrapped instead of replaced,
+     * keeping {@code spring.cache.type} and the customizers below in effect.
+     *
+     * @return Post-processor wrapping the Caffeine cache manager
+     */
+    @Bean
+    public static BeanPostProcessor transactionAwareCacheManager() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof CaffeineCacheManager cacheManager
+                    ? new TransactionAwareCacheManagerProxy(cacheManager)
+                    : bean;
+            }
+        };
+    }
+
+    /**
+     * Register the task cache with its own size and TTL bounds. Stats are recorded so that
+     * hit, miss and eviction counts are published through the actuator cache metrics.
+     *
+     * @param maxSize Maximum number of cached tasks
+     * @param ttl Time after which a cached task is reloaded
+     * @return Customizer for the Caffeine cache manager
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> taskCacheCustomizer(
+        @Value("${tasks.cache.max-size:10000}") long maxSize,
+        @Value("${tasks.cache.ttl:30s}") Duration ttl
+    ) {
+        return cacheManager -> cacheManager.registerCustomCache(
+            TASKS_CACHE,
+            Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build()
+        );
+    }
+
+    /**
+     * Register the stats cache. It holds a single snapshot that expires quickly, so frequent dashboard
+     * polls share one aggregate query without needing invalidation on every write.
+     *
+     * @param ttl Time after which the snapshot is recomputed
+     * @return Customizer for the Caffeine cache manager
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> taskStatsCacheCustomizer(
+        @Value("${tasks.stats.ttl:5s}") Duration ttl
+    ) {
+        return cacheManager -> cacheManager.registerCustomCache(
+            TASK_STATS_CACHE,
+            Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build()
+        );
+    }
+}
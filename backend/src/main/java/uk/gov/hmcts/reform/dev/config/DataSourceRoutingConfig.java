@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Splits database traffic between a primary and a read replica, each with its own Hikari pool.
+ * Read-only transactions go to the replica and everything else to the primary; see
+ * {@link ReadWriteRoutingDataSource}. Off unless {@code tasks.datasource.replica.enabled=true}, in which
+ * case the replica connection is configured under {@code tasks.datasource.replica} using Hikari property
+ * names ({@code jdbc-url}, {@code username}, {@code maximum-pool-size}, ...).
+ */
+@Configuration
+@ConditionalOnProperty(name = "tasks.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * The write pool, built from {@code spring.datasource} exactly as Spring Boot would build it.
+     *
+     * @param properties Primary connection settings
+     * @return The primary pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * The read pool.
+     *
+     * @return The replica pool
+     */
+    @Bean
+    @ConfigurationProperties("tasks.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    /**
+     * The datasource used by JPA, Flyway and everything else.
+     *
+     * @param primary The primary pool
+     * @param replica The replica pool
+     * @return Routing datasource that borrows a connection only when the first statement runs
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica));
+    }
+}
@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for shedding low-priority requests while the service is overloaded.
+ */
+@ConfigurationProperties(prefix = "tasks.load-shedding")
+@Getter
+@Setter
+public class LoadSheddingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Low-priority requests are rejected while more than this many task requests are in flight,
+     * including any waiting for a concurrency permit.
+     */
+    private int maxInFlight = 150;
+
+    /**
+     * Low-priority requests are rejected while the moving average request latency is above this.
+     */
+    private Duration latencyThreshold = Duration.ofSeconds(1);
+
+    /**
+     * While shedding on latency, one low-priority request is still let through this often, so the
+     * average can recover when load drops.
+     */
+    private Duration probeInterval = Duration.ofMillis(100);
+
+    /**
+     * Requests that may be shed. Everything else is always admitted.
+     */
+    private List<Route> lowPriority = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        /**
+         * HTTP method to match, or empty to match any method.
+         */
+        private String method;
+
+        /**
+         * Ant-style path pattern, e.g. {@code /tasks/export}.
+         */
+        private String pattern;
+    }
+}
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for per-client rate limiting. Rules are checked in order and the first one matching the
+ * request's method and path decides its bucket; requests matching no rule are not limited.
+ */
+@ConfigurationProperties(prefix = "tasks.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Header identifying the client, normally an API key set or checked by the gateway. Only read on
+     * requests arriving from one of {@code trustedGateways}; anyone else could send a new value with every
+     * request to get a fresh bucket each time.
+     */
+    private String clientHeader = "X-API-Key";
+
+    /**
+     * Remote addresses of the gateways allowed to identify clients through {@code clientHeader}. Empty by
+     * default, so every client is limited per remote address.
+     */
+    private List<String> trustedGateways = new ArrayList<>();
+
+    /**
+     * Most buckets kept at once; the least recently used are dropped beyond this.
+     */
+    private long maxClients = 100_000;
+
+    /**
+     * Buckets unused for this long are dropped. A dropped bucket comes back full, so keep this longer
+     * than the time any bucket takes to refill.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /**
+         * HTTP method to match, or empty to match any method.
+         */
+        private String method;
+
+        /**
+         * Ant-style path pattern, e.g. {@code /tasks/**}.
+         */
+        private String pattern;
+
+        /**
+         * Largest burst a client can send at once.
+         */
+        private int capacity;
+
+        /**
+         * Sustained requests per second a client is allowed.
+         */
+        private double refillPerSecond;
+    }
+}
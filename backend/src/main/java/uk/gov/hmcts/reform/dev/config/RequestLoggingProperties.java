@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for the sampled request summary log. Rules are checked in order and the first one
+ * matching the request's method and path decides its sample rate.
+ */
+@ConfigurationProperties(prefix = "tasks.request-logging")
+@Getter
+@Setter
+public class RequestLoggingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Fraction of requests logged when no rule matches, between 0 and 1.
+     */
+    private double defaultSampleRate = 0.01;
+
+    /**
+     * Requests slower than this are always logged.
+     */
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /**
+         * HTTP method to match, or empty to match any method.
+         */
+        private String method;
+
+        /**
+         * Ant-style path pattern, e.g. {@code /tasks/**}.
+         */
+        private String pattern;
+
+        private double sampleRate;
+    }
+}
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables background jobs such as SSE heartbeats. Tests can switch it off with
+ * {@code tasks.scheduling.enabled=false}.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "tasks.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -13,7 +13,14 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("*")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowedHeaders("*")
-                .exposedHeaders("Access-Control-Allow-Origin", "Access-Control-Allow-Credentials")
+                .exposedHeaders(
+                    "Access-Control-Allow-Origin",
+                    "Access-Control-Allow-Credentials",
+                    "ETag",
+                    "Last-Modified",
+                    "Idempotent-Replayed",
+                    "Retry-After"
+                )
                 .allowCredentials(false)  // Must be false when using allowedOrigins("*")
                 .maxAge(3600);
     }
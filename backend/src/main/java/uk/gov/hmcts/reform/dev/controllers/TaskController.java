@@ -1,10 +1,17 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,108 +20,390 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
+import uk.gov.hmcts.reform.dev.models.task.AsyncOperation;
 import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskField;
+import uk.gov.hmcts.reform.dev.models.task.TaskImportFormat;
+import uk.gov.hmcts.reform.dev.models.task.TaskImportResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskListVersion;
+import uk.gov.hmcts.reform.dev.models.task.TaskPage;
+import uk.gov.hmcts.reform.dev.models.task.TaskPageOrder;
 import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskSearchCriteria;
+import uk.gov.hmcts.reform.dev.models.task.TaskSearchResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskSortField;
+import uk.gov.hmcts.reform.dev.models.task.TaskStats;
 import uk.gov.hmcts.reform.dev.models.task.TaskStatusRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatusUpdate;
+import uk.gov.hmcts.reform.dev.services.AsyncTaskWriter;
+import uk.gov.hmcts.reform.dev.services.TaskImportService;
 import uk.gov.hmcts.reform.dev.services.TaskService;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/tasks")
 @Slf4j
 public class TaskController {
 
+    static final String PREFER_HEADER = "Prefer";
+    static final String RESPOND_ASYNC = "respond-async";
+    static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    static final String TEXT_CSV_VALUE = "text/csv";
+
     private final TaskService taskService;
+    private final AsyncTaskWriter asyncTaskWriter;
+    private final TaskImportService taskImportService;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
 
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, AsyncTaskWriter asyncTaskWriter,
+                          TaskImportService taskImportService, ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.asyncTaskWriter = asyncTaskWriter;
+        this.taskImportService = taskImportService;
+        this.objectMapper = objectMapper;
+        // Binary exports share the modules and settings of the JSON mapper
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
     }
 
     /**
-     * Get all tasks.
+     * Get the first {@link TaskService#MAX_PAGE_SIZE} tasks by ID. Longer listings are cut off there, with a
+     * {@code Link: rel="next"} header pointing at the rest in {@code GET /tasks/page}. Answers 304 Not Modified
+     * without loading the tasks when the client's If-None-Match still matches the list.
      *
-     * @return List of all tasks
+     * @param fields Comma-separated attributes to return, e.g. {@code title,status}; all when omitted
+     * @param webRequest Current request, used to evaluate conditional headers
+     * @return Up to {@link TaskService#MAX_PAGE_SIZE} tasks
+     * @deprecated Use {@code GET /tasks/page}, which pages through every task.
      */
+    @Deprecated
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks() {
-        log.info("Received request to get all tasks");
-        List<Task> tasks = taskService.getAllTasks();
-        log.info("Returning {} tasks", tasks.size());
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<List<?>> getAllTasks(@RequestParam(required = false) String fields,
+                                               WebRequest webRequest) {
+        Set<TaskField> selected = fields == null ? null : TaskField.parse(fields);
+        TaskListVersion version = taskService.getTaskListVersion();
+        String eTag = selected == null ? TaskETags.forList(version) : TaskETags.forList(version, selected);
+        // No Last-Modified: deletes do not move max(updated_at), so If-Modified-Since would miss them
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        TaskPage<?> page = selected == null
+            ? taskService.getTaskPage(null, TaskService.MAX_PAGE_SIZE, TaskPageOrder.ID)
+            : taskService.getTaskViewPage(null, TaskService.MAX_PAGE_SIZE, TaskPageOrder.ID, selected);
+        log.debug("Returning {} tasks", page.getItems().size());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(eTag);
+        if (page.isHasMore()) {
+            String next = UriComponentsBuilder.fromPath("/tasks/page")
+                .queryParam("order", TaskPageOrder.ID)
+                .queryParam("size", TaskService.MAX_PAGE_SIZE)
+                .queryParam("cursor", page.getNextCursor())
+                .queryParamIfPresent("fields", Optional.ofNullable(fields))
+                .encode()
+                .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.getItems());
+    }
+
+    /**
+     * Get one page of tasks using keyset pagination.
+     *
+     * @param cursor Cursor from the previous page, omitted for the first page
+     * @param size Page size, capped at {@link TaskService#MAX_PAGE_SIZE}
+     * @param order Ordering of the listing
+     * @param fields Comma-separated attributes to return; all when omitted
+     * @return The page of tasks and the cursor for the next page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<TaskPage<?>> getTaskPage(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int size,
+        @RequestParam(defaultValue = "ID") TaskPageOrder order,
+        @RequestParam(required = false) String fields
+    ) {
+        if (fields == null) {
+            return ResponseEntity.ok(taskService.getTaskPage(cursor, size, order));
+        }
+        return ResponseEntity.ok(taskService.getTaskViewPage(cursor, size, order, TaskField.parse(fields)));
     }
 
     /**
-     * Get a task by ID.
+     * Filter and sort tasks on the server.
+     *
+     * @param criteria Status, due date, created/updated range and title prefix filters
+     * @param sort Field to sort by
+     * @param direction Sort direction
+     * @param page Zero-based page number
+     * @param size Page size, capped at {@link TaskService#MAX_PAGE_SIZE}
+     * @param fields Comma-separated attributes to return; all when omitted
+     * @return The matching page of tasks
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<TaskSearchResult<?>> filterTasks(
+        TaskSearchCriteria criteria,
+        @RequestParam(defaultValue = "DUE_DATE") TaskSortField sort,
+        @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int size,
+        @RequestParam(required = false) String fields
+    ) {
+        if (fields == null) {
+            return ResponseEntity.ok(taskService.searchTasks(criteria, sort, direction, page, size));
+        }
+        return ResponseEntity.ok(
+            taskService.searchTaskViews(TaskField.parse(fields), criteria, sort, direction, page, size));
+    }
+
+    /**
+     * Full-text search over task titles and descriptions. Tasks must contain every term; matches in
+     * the title rank above matches in the description.
+     *
+     * @param q Search terms
+     * @param page Zero-based page number
+     * @param size Page size, capped at {@link TaskService#MAX_PAGE_SIZE}
+     * @return The matching page of tasks, best matches first
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchResult<Task>> searchTasks(
+        @RequestParam(required = false) String q,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "" + TaskService.DEFAULT_PAGE_SIZE) int size
+    ) {
+        return ResponseEntity.ok(taskService.searchTasksByText(q, page, size));
+    }
+
+    /**
+     * Get task counts per status, overdue and due-this-week counts for dashboards.
+     *
+     * @param fresh Whether to recompute instead of serving the recent cached snapshot
+     * @return Task statistics
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStats> getTaskStats(@RequestParam(defaultValue = "false") boolean fresh) {
+        return ResponseEntity.ok(taskService.getTaskStats(fresh));
+    }
+
+    /**
+     * Export all tasks as a JSON array, writing each row as it is read from the database. Declares no
+     * {@code produces} so it is the fallback when the Accept header is missing or {@code *}{@code /*}.
+     *
+     * @return Streaming response body
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        return exportArray(objectMapper, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Export all tasks as newline-delimited JSON, one task per line, so consumers can parse
+     * rows as they arrive instead of waiting for the closing bracket.
+     *
+     * @return Streaming response body
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasksAsNdjson() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                taskService.streamAllTasks(task -> writeLine(generator, task));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Export all tasks as a CBOR array.
+     *
+     * @return Streaming response body
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_CBOR_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasksAsCbor() {
+        return exportArray(cborMapper, MediaType.APPLICATION_CBOR);
+    }
+
+    /**
+     * Export all tasks as a Smile array.
+     *
+     * @return Streaming response body
+     */
+    @GetMapping(value = "/export", produces = APPLICATION_SMILE_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasksAsSmile() {
+        return exportArray(smileMapper, MediaType.parseMediaType(APPLICATION_SMILE_VALUE));
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportArray(ObjectMapper mapper, MediaType contentType) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                try (SequenceWriter writer = mapper.writer().writeValuesAsArray(generator)) {
+                    taskService.streamAllTasks(task -> writeTask(writer, task));
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(contentType).body(body);
+    }
+
+    private static void writeTask(SequenceWriter writer, Task task) {
+        try {
+            writer.write(task);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeLine(JsonGenerator generator, Task task) {
+        try {
+            generator.writeObject(task);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Get a task by ID. Answers 304 Not Modified when the client's If-None-Match or
+     * If-Modified-Since still matches the task.
      *
      * @param id Task ID
+     * @param webRequest Current request, used to evaluate conditional headers
      * @return The task if found
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<Task> getTaskById(@PathVariable Long id, WebRequest webRequest) {
         try {
-            return ResponseEntity.ok(taskService.getTaskById(id));
+            Task task = taskService.getTaskById(id);
+            String eTag = TaskETags.forTask(task);
+            long lastModified = TaskETags.toEpochMilli(task.getUpdatedAt());
+            if (webRequest.checkNotModified(eTag, lastModified)) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(eTag).lastModified(lastModified).body(task);
         } catch (EntityNotFoundException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
     /**
-     * Create a new task.
+     * Create a new task. With {@code Prefer: respond-async} the task is queued and created in the
+     * background, and the response is 202 Accepted with a link to poll for the outcome.
      *
+     * @param prefer Prefer header, optional
      * @param taskRequest Task data
-     * @return The created task
+     * @return The created task, or the pending operation in async mode
      */
     @PostMapping
-    public ResponseEntity<Task> createTask(@Valid @RequestBody TaskRequest taskRequest) {
-        log.info("Received task creation request: {}", taskRequest);
-        try {
-            Task createdTask = taskService.createTask(taskRequest);
-            log.info("Task created successfully: {}", createdTask);
-            return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
-        } catch (Exception e) {
-            log.error("Error creating task: {}", e.getMessage(), e);
-            throw e;
+    public ResponseEntity<?> createTask(@RequestHeader(value = PREFER_HEADER, required = false) String prefer,
+                                        @Valid @RequestBody TaskRequest taskRequest) {
+        if (respondAsync(prefer)) {
+            return accepted(asyncTaskWriter.submitCreate(taskRequest));
         }
+        Task createdTask = taskService.createTask(taskRequest);
+        return ResponseEntity.created(URI.create("/tasks/" + createdTask.getId()))
+            .eTag(TaskETags.forTask(createdTask))
+            .body(createdTask);
     }
 
     /**
-     * Update a task.
+     * Update a task. When If-Match is sent, the update only applies if the task is still
+     * at that version.
      *
      * @param id Task ID
+     * @param ifMatch ETag of the version being replaced, optional
      * @param taskRequest Updated task data
      * @return The updated task
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Task> updateTask(@PathVariable Long id, @Valid @RequestBody TaskRequest taskRequest) {
+    public ResponseEntity<Task> updateTask(@PathVariable Long id,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                           String ifMatch,
+                                           @Valid @RequestBody TaskRequest taskRequest) {
         try {
-            Task updatedTask = taskService.updateTask(id, taskRequest);
-            return ResponseEntity.ok(updatedTask);
+            Task updatedTask = taskService.updateTask(id, taskRequest, TaskETags.parseVersion(ifMatch, id));
+            return ResponseEntity.ok().eTag(TaskETags.forTask(updatedTask)).body(updatedTask);
         } catch (EntityNotFoundException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
     /**
-     * Update only the status of a task.
+     * Update only the status of a task. When If-Match is sent, the update only applies if
+     * the task is still at that version. With {@code Prefer: respond-async} the update is queued
+     * and the response is 202 Accepted with a link to poll for the outcome.
      *
      * @param id Task ID
+     * @param ifMatch ETag of the version being replaced, optional
+     * @param prefer Prefer header, optional
      * @param statusRequest New status
-     * @return The updated task
+     * @return The updated task, or the pending operation in async mode
      */
     @PatchMapping("/{id}/status")
-    public ResponseEntity<Task> updateTaskStatus(@PathVariable Long id, @Valid @RequestBody TaskStatusRequest statusRequest) {
+    public ResponseEntity<?> updateTaskStatus(@PathVariable Long id,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                              String ifMatch,
+                                              @RequestHeader(value = PREFER_HEADER, required = false) String prefer,
+                                              @Valid @RequestBody TaskStatusRequest statusRequest) {
+        Long expectedVersion = TaskETags.parseVersion(ifMatch, id);
+        if (respondAsync(prefer)) {
+            return accepted(asyncTaskWriter.submitStatusUpdate(id, statusRequest.getStatus(), expectedVersion));
+        }
         try {
-            Task updatedTask = taskService.updateTaskStatus(id, statusRequest.getStatus());
-            return ResponseEntity.ok(updatedTask);
+            Task updatedTask = taskService.updateTaskStatus(id, statusRequest.getStatus(), expectedVersion);
+            return ResponseEntity.ok().eTag(TaskETags.forTask(updatedTask)).body(updatedTask);
         } catch (EntityNotFoundException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
+    /**
+     * Get the outcome of a write accepted with {@code Prefer: respond-async}.
+     *
+     * @param operationId Operation ID from the 202 response
+     * @return The operation, or 404 if it is unknown or has expired
+     */
+    @GetMapping("/operations/{operationId}")
+    public ResponseEntity<AsyncOperation> getOperation(@PathVariable String operationId) {
+        return ResponseEntity.of(asyncTaskWriter.getOperation(operationId));
+    }
+
+    private boolean respondAsync(String prefer) {
+        // Without the writer thread the preference is ignored and the write is applied synchronously
+        if (prefer == null || !asyncTaskWriter.isEnabled()) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            if (RESPOND_ASYNC.equalsIgnoreCase(preference.split(";")[0].trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ResponseEntity<AsyncOperation> accepted(AsyncOperation operation) {
+        return ResponseEntity.accepted()
+            .location(URI.create("/tasks/operations/" + operation.getId()))
+            .header("Preference-Applied", RESPOND_ASYNC)
+            .body(operation);
+    }
+
     /**
      * Delete a task.
      *
@@ -130,4 +419,54 @@ public class TaskController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    /**
+     * Create many tasks in one transaction.
+     *
+     * @param taskRequests Task data
+     * @return Per-item results; invalid items are reported without failing the batch
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResult> createTasks(@RequestBody List<TaskRequest> taskRequests) {
+        return ResponseEntity.ok(taskService.createTasks(taskRequests));
+    }
+
+    /**
+     * Import tasks from an NDJSON or CSV upload, parsed and written incrementally in chunks.
+     *
+     * @param contentType Content type of the upload, either {@code application/x-ndjson} or {@code text/csv}
+     * @param body Upload body
+     * @return Row counts and per-row errors for rejected rows
+     * @throws IOException if the upload cannot be read
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    public ResponseEntity<TaskImportResult> importTasks(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                        InputStream body) throws IOException {
+        TaskImportFormat format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+            ? TaskImportFormat.NDJSON
+            : TaskImportFormat.CSV;
+        return ResponseEntity.ok(taskImportService.importTasks(body, format));
+    }
+
+    /**
+     * Update the status of many tasks in one transaction.
+     *
+     * @param updates Task IDs and new statuses
+     * @return Per-item results; unknown IDs are reported as not found
+     */
+    @PatchMapping("/status/batch")
+    public ResponseEntity<TaskBatchResult> updateTaskStatuses(@RequestBody List<TaskStatusUpdate> updates) {
+        return ResponseEntity.ok(taskService.updateTaskStatuses(updates));
+    }
+
+    /**
+     * Delete many tasks in one transaction.
+     *
+     * @param ids Task IDs
+     * @return Per-item results; unknown IDs are reported as not found
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<TaskBatchResult> deleteTasks(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(taskService.deleteTasks(ids));
+    }
 }
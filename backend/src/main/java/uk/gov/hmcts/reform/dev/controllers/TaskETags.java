@@ -0,0 +1,111 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import uk.gov.hmcts.reform.dev.exceptions.PreconditionFailedException;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskField;
+import uk.gov.hmcts.reform.dev.models.task.TaskListVersion;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+
+/**
+ * Builds validators for conditional requests on task resources.
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    /**
+     * Strong ETag for a single task, derived from its ID and version.
+     *
+     * @param task The task
+     * @return Quoted ETag value
+     */
+    static String forTask(Task task) {
+        return quote(task.getId() + "-" + nullToZero(task.getVersion()));
+    }
+
+    /**
+     * Extract the expected task version from an If-Match header.
+     *
+     * @param ifMatch Header value, may be null
+     * @param id ID of the task being written
+     * @return The expected version, or null if the header is absent or {@code *}
+     * @throws PreconditionFailedException if the header is not a current-format ETag for this task
+     */
+    static Long parseVersion(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (value.startsWith(prefix) && value.endsWith("\"") && value.length() > prefix.length() + 1) {
+            try {
+                return Long.valueOf(value.substring(prefix.length(), value.length() - 1));
+            } catch (NumberFormatException e) {
+                // Fall through to the precondition failure below
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not match any version of task with ID " + id);
+    }
+
+    /**
+     * Weak ETag for the whole task list. The row count catches deletes, the highest ID catches
+     * inserts and the latest update time catches modifications. Weak because Tomcat does not
+     * compress responses carrying a strong ETag, and the list is the response that most needs it.
+     *
+     * @param version Summary of the task table
+     * @return Weak quoted ETag value
+     */
+    static String forList(TaskListVersion version) {
+        return "W/" + quote("list-" + Long.toHexString(nullToZero(version.getCount()))
+                         + "-" + Long.toHexString(nullToZero(version.getMaxId()))
+                         + "-" + Long.toHexString(toEpochNanos(version.getLastUpdated())));
+    }
+
+    /**
+     * Weak ETag for a projection of the task list. The selected fields are part of the tag so
+     * differently projected responses are never confused with each other.
+     *
+     * @param version Summary of the task table
+     * @param fields Fields included in the response
+     * @return Weak quoted ETag value
+     */
+    static String forList(TaskListVersion version, Set<TaskField> fields) {
+        int mask = 0;
+        for (TaskField field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        String listTag = forList(version);
+        return listTag.substring(0, listTag.length() - 1) + "-f" + Integer.toHexString(mask) + "\"";
+    }
+
+    /**
+     * Convert a task timestamp to a Last-Modified value.
+     *
+     * @param dateTime Timestamp in the server time zone, may be null
+     * @return Epoch milliseconds, or -1 if unknown
+     */
+    static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long toEpochNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0;
+        }
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static long nullToZero(Long value) {
+        return value == null ? 0 : value;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.services.TaskChangeBroadcaster;
+
+@RestController
+@RequestMapping("/tasks")
+public class TaskStreamController {
+
+    private final TaskChangeBroadcaster broadcaster;
+
+    @Autowired
+    public TaskStreamController(TaskChangeBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * Stream task changes as Server-Sent Events. Browsers resend the ID of the last event they
+     * received on reconnect, and any buffered events after it are replayed first.
+     *
+     * @param lastEventId ID of the last event received, sent automatically by EventSource on reconnect
+     * @return Event stream of task changes
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskChanges(
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return broadcaster.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.exceptions;
+
+/**
+ * Thrown when an asynchronous write cannot be accepted because the write queue is full.
+ */
+public class QueueFullException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public QueueFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
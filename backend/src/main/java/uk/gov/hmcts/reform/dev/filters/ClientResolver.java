@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import uk.gov.hmcts.reform.dev.config.RateLimitProperties;
+
+import java.util.Set;
+
+/**
+ * Tells clients apart by remote address, or by the configured client header on requests coming through
+ * a trusted gateway. Shared by rate limiting and idempotency key scoping, so both see the same clients.
+ */
+@Component
+public class ClientResolver {
+
+    private final String clientHeader;
+    private final Set<String> trustedGateways;
+
+    public ClientResolver(RateLimitProperties properties) {
+        this.clientHeader = properties.getClientHeader();
+        this.trustedGateways = Set.copyOf(properties.getTrustedGateways());
+    }
+
+    /**
+     * Identify the client sending a request.
+     *
+     * @param request Incoming request
+     * @return {@code key:} and the client header value, or {@code addr:} and the remote address
+     */
+    public String clientOf(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (trustedGateways.contains(remoteAddr)) {
+            String key = request.getHeader(clientHeader);
+            if (StringUtils.hasText(key)) {
+                return "key:" + key;
+            }
+        }
+        return "addr:" + remoteAddr;
+    }
+}
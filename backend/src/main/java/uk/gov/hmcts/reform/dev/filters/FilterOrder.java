@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import org.springframework.core.Ordered;
+
+/**
+ * Position of each application filter in the servlet chain, lowest first. Request logging wraps everything
+ * so rejections are logged too. Rate limiting and load shedding come next, so rejected requests never take a
+ * concurrency permit or an idempotency claim, and the shedder's in-flight count includes requests queued for
+ * a permit. The idempotency and read-your-writes filters, which touch the database, run last.
+ */
+public final class FilterOrder {
+
+    public static final int REQUEST_LOGGING = Ordered.HIGHEST_PRECEDENCE + 10;
+    public static final int RATE_LIMIT = REQUEST_LOGGING + 10;
+    public static final int LOAD_SHEDDING = RATE_LIMIT + 10;
+    public static final int CONCURRENCY_LIMIT = LOAD_SHEDDING + 10;
+    public static final int IDEMPOTENCY = CONCURRENCY_LIMIT + 10;
+    public static final int READ_YOUR_WRITES = IDEMPOTENCY + 10;
+
+    private FilterOrder() {
+    }
+}
@@ -0,0 +1,184 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import uk.gov.hmcts.reform.dev.models.idempotency.IdempotencyRecord;
+import uk.gov.hmcts.reform.dev.models.idempotency.IdempotentResponse;
+import uk.gov.hmcts.reform.dev.services.IdempotencyService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Makes task creation and the bulk endpoints safe to retry. The first request with an Idempotency-Key
+ * is processed and its response stored; repeats with the same key and body get that response back
+ * instead of being processed again. Keys are scoped to the client, so two callers choosing the same key
+ * do not see each other's responses.
+ */
+@Component
+@Order(FilterOrder.IDEMPOTENCY)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> IDEMPOTENT_ENDPOINTS = Set.of(
+        "POST /tasks",
+        "POST /tasks/batch",
+        "PATCH /tasks/status/batch",
+        "DELETE /tasks/batch"
+    );
+
+    private final IdempotencyService idempotencyService;
+    private final ClientResolver clientResolver;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyFilter(IdempotencyService idempotencyService, ClientResolver clientResolver,
+                             ObjectMapper objectMapper) {
+        this.idempotencyService = idempotencyService;
+        this.clientResolver = clientResolver;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+            || !IDEMPOTENT_ENDPOINTS.contains(request.getMethod() + " " + path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                       IDEMPOTENCY_KEY_HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request);
+        String requestHash = fingerprint(request, cachedRequest.getBody());
+        String scopedKey = scopeOf(request) + ":" + key;
+        String owner = UUID.randomUUID().toString();
+        Optional<IdempotencyRecord> existing = idempotencyService.claim(scopedKey, requestHash, owner);
+        if (existing.isPresent()) {
+            respondToRepeat(existing.get(), requestHash, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            chain.doFilter(cachedRequest, cachedResponse);
+            // Responses that ask the client to try again are not stored, so the retry with the same key is processed
+            if (!isRetryable(cachedResponse.getStatus())) {
+                String body = new String(cachedResponse.getContentAsByteArray(), StandardCharsets.UTF_8);
+                idempotencyService.complete(scopedKey, owner, new IdempotentResponse(
+                    cachedResponse.getStatus(), cachedResponse.getContentType(),
+                    cachedResponse.getHeader(HttpHeaders.LOCATION), cachedResponse.getHeader(HttpHeaders.ETAG),
+                    body));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyService.release(scopedKey, owner);
+            }
+            cachedResponse.copyBodyToResponse();
+        }
+    }
+
+    private static boolean isRetryable(int status) {
+        return status >= HttpStatus.INTERNAL_SERVER_ERROR.value()
+            || status == HttpStatus.TOO_MANY_REQUESTS.value()
+            || status == HttpStatus.REQUEST_TIMEOUT.value()
+            || status == HttpStatus.TOO_EARLY.value();
+    }
+
+    private void respondToRepeat(IdempotencyRecord record, String requestHash, HttpServletResponse response)
+        throws IOException {
+        if (!record.getRequestHash().equals(requestHash)) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                       IDEMPOTENCY_KEY_HEADER + " has already been used for a different request");
+        } else if (!record.isCompleted()) {
+            // The key can be taken over once the first request's lease lapses
+            if (record.getLockedUntil() != null) {
+                long leaseSeconds = Duration.between(LocalDateTime.now(), record.getLockedUntil()).toSeconds();
+                response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, leaseSeconds + 1)));
+            }
+            writeError(response, HttpStatus.CONFLICT,
+                       "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed");
+        } else {
+            response.setStatus(record.getResponseStatus());
+            if (record.getContentType() != null) {
+                response.setContentType(record.getContentType());
+            }
+            if (record.getLocation() != null) {
+                response.setHeader(HttpHeaders.LOCATION, record.getLocation());
+            }
+            if (record.getEtag() != null) {
+                response.setHeader(HttpHeaders.ETAG, record.getEtag());
+            }
+            response.setHeader(REPLAYED_HEADER, "true");
+            if (record.getResponseBody() != null) {
+                response.getOutputStream().write(record.getResponseBody().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private String scopeOf(HttpServletRequest request) {
+        // Hashed because the client ID may be an API key, which should not be stored
+        MessageDigest digest = sha256();
+        digest.update(clientResolver.clientOf(request).getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        MessageDigest digest = sha256();
+        String target = request.getMethod() + " " + request.getRequestURI() + "\n";
+        digest.update(target.getBytes(StandardCharsets.UTF_8));
+        digest.update(body);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
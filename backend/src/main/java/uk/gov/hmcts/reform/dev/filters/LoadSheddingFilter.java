@@ -0,0 +1,196 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import uk.gov.hmcts.reform.dev.config.LoadSheddingProperties;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Rejects low-priority task requests with 503 while the service is overloaded, so single-task reads and
+ * writes keep their latency when bulk reads pile up. The service counts as overloaded when more task
+ * requests are in flight than {@code tasks.load-shedding.max-in-flight}, or when the moving average
+ * request latency exceeds {@code tasks.load-shedding.latency-threshold}.
+ *
+ * <p>This filter runs ahead of {@link ConcurrencyLimitFilter} (see {@link FilterOrder}), so in virtual thread
+ * mode the in-flight count includes requests queued there for a permit and doubles as a queue depth signal.
+ *
+ * <p>Async responses such as exports stay in flight, and are timed, until the response completes, since
+ * they hold their connection while the body streams. The change stream is not counted: its clients stay
+ * connected indefinitely and would otherwise look like a permanent backlog.
+ */
+@Component
+@Order(FilterOrder.LOAD_SHEDDING)
+@EnableConfigurationProperties(LoadSheddingProperties.class)
+@Slf4j
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    // Each sample moves the average a tenth of the way towards it
+    private static final int EWMA_WEIGHT = 10;
+    private static final String STREAM_PATH = "/tasks/stream";
+
+    private final LoadSheddingProperties properties;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong latencyNanos = new AtomicLong();
+    private final AtomicLong lastProbeNanos;
+    private final long latencyThresholdNanos;
+    private final long probeIntervalNanos;
+    private final Counter shed;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public LoadSheddingFilter(LoadSheddingProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    LoadSheddingFilter(LoadSheddingProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.latencyThresholdNanos = properties.getLatencyThreshold().toNanos();
+        this.probeIntervalNanos = properties.getProbeInterval().toNanos();
+        this.lastProbeNanos = new AtomicLong(nanoClock.getAsLong() - probeIntervalNanos);
+        this.shed = Counter.builder("tasks.requests.rejected")
+            .tag("reason", "shed")
+            .description("Requests rejected before reaching a controller")
+            .register(meterRegistry);
+        Gauge.builder("tasks.requests.in_flight", inFlight, AtomicInteger::get)
+            .description("Task requests currently being handled or queued")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = pathOf(request);
+        return !properties.isEnabled() || !path.startsWith("/tasks") || path.equals(STREAM_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        int depth = inFlight.incrementAndGet();
+        if (isLowPriority(request.getMethod(), pathOf(request)) && isOverloaded(depth)) {
+            try {
+                shed.increment();
+                log.debug("Shedding {} {}: inFlight={} latencyMs={}", request.getMethod(), request.getRequestURI(),
+                          depth, latencyNanos.get() / 1_000_000);
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server is overloaded, retry shortly");
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return;
+        }
+        RequestCompletion completion = new RequestCompletion(nanoClock.getAsLong());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(completion);
+            } else {
+                completion.run();
+            }
+        }
+    }
+
+    /**
+     * Whether a request may be shed under load.
+     *
+     * @param method HTTP method
+     * @param path Request path within the application
+     * @return true if a low-priority route matches
+     */
+    boolean isLowPriority(String method, String path) {
+        for (LoadSheddingProperties.Route route : properties.getLowPriority()) {
+            boolean methodMatches = !StringUtils.hasText(route.getMethod())
+                || route.getMethod().equalsIgnoreCase(method);
+            if (methodMatches && pathMatcher.match(route.getPattern(), path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isOverloaded(int depth) {
+        if (depth > properties.getMaxInFlight()) {
+            return true;
+        }
+        if (latencyNanos.get() <= latencyThresholdNanos) {
+            return false;
+        }
+        // Admit one probe per interval; if only low-priority traffic arrives, nothing else would bring the average down
+        long now = nanoClock.getAsLong();
+        long lastProbe = lastProbeNanos.get();
+        return now - lastProbe < probeIntervalNanos || !lastProbeNanos.compareAndSet(lastProbe, now);
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * Samples the latency and leaves the in-flight count once, whichever of the request thread or the async
+     * listener callbacks gets there first.
+     */
+    private final class RequestCompletion implements AsyncListener, Runnable {
+
+        private final long startNanos;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        RequestCompletion(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void run() {
+            if (done.compareAndSet(false, true)) {
+                long sample = nanoClock.getAsLong() - startNanos;
+                latencyNanos.getAndUpdate(average -> average + (sample - average) / EWMA_WEIGHT);
+                inFlight.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Re-register for the new async cycle, so its completion still ends the request
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
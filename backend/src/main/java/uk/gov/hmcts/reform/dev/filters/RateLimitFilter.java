@@ -0,0 +1,123 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import uk.gov.hmcts.reform.dev.config.RateLimitProperties;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits each client to the request rate of the first rate-limit rule matching the request, answering
+ * 429 with {@code Retry-After} once its bucket is empty. Clients are told apart by remote address, or by
+ * the configured header on requests coming through a trusted gateway.
+ *
+ * <p>Buckets live in a bounded Caffeine cache, which is safe for concurrent use without a global lock,
+ * and each bucket is a single atomic value updated by compare-and-set, so busy clients do not serialise
+ * on one another.
+ */
+@Component
+@Order(FilterOrder.RATE_LIMIT)
+@EnableConfigurationProperties(RateLimitProperties.class)
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final Cache<String, TokenBucket> buckets;
+    private final Counter rejected;
+    private final LongSupplier nanoClock;
+    private final ClientResolver clientResolver;
+
+    @Autowired
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.clientResolver = new ClientResolver(properties);
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxClients())
+            .expireAfterAccess(properties.getIdleTimeout())
+            .build();
+        this.rejected = Counter.builder("tasks.requests.rejected")
+            .tag("reason", "rate_limited")
+            .description("Requests rejected before reaching a controller")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || properties.getRules().isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        int ruleIndex = ruleFor(request.getMethod(), pathOf(request));
+        if (ruleIndex < 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitProperties.Rule rule = properties.getRules().get(ruleIndex);
+        String client = clientResolver.clientOf(request);
+        // One bucket per client per rule, so a client exhausting one endpoint can still use the others
+        TokenBucket bucket = buckets.get(ruleIndex + "|" + client,
+                                         key -> new TokenBucket(rule.getCapacity(), rule.getRefillPerSecond()));
+        long waitNanos = bucket.tryConsume(nanoClock.getAsLong());
+        if (waitNanos > 0) {
+            rejected.increment();
+            log.debug("Rate limited {} {} for client {}", request.getMethod(), request.getRequestURI(), client);
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Rate limit exceeded, retry later");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * Index of the first rule matching a request.
+     *
+     * @param method HTTP method
+     * @param path Request path within the application
+     * @return Rule index, or -1 if no rule matches
+     */
+    int ruleFor(String method, String path) {
+        List<RateLimitProperties.Rule> rules = properties.getRules();
+        for (int i = 0; i < rules.size(); i++) {
+            RateLimitProperties.Rule rule = rules.get(i);
+            boolean methodMatches = !StringUtils.hasText(rule.getMethod()) || rule.getMethod().equalsIgnoreCase(method);
+            if (methodMatches && pathMatcher.match(rule.getPattern(), path)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
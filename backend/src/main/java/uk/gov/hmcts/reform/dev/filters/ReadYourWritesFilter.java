@@ -0,0 +1,108 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import uk.gov.hmcts.reform.dev.config.ReadWriteRoutingDataSource;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps a client's reads on the primary for a short while after it writes, so it does not read stale
+ * data from a lagging replica.
+ *
+ * <p>Write requests always run pinned to the primary. When {@code tasks.datasource.replica.read-your-writes-window}
+ * is positive they also set a cookie recording until when that client's later reads should stay on the primary;
+ * the cookie carries the deadline, so it works across instances without shared state.
+ */
+@Component
+@Order(FilterOrder.READ_YOUR_WRITES)
+@ConditionalOnProperty(name = "tasks.datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String PRIMARY_UNTIL_COOKIE = "tasks-primary-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of(
+        HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name()
+    );
+
+    private final Duration window;
+    private final Clock clock;
+
+    @Autowired
+    public ReadYourWritesFilter(@Value("${tasks.datasource.replica.read-your-writes-window:5s}") Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    ReadYourWritesFilter(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/tasks");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write && window.isPositive()) {
+            // Set before the chain runs, since streamed responses may already be committed when it returns
+            long until = clock.millis() + window.toMillis();
+            ResponseCookie cookie = ResponseCookie.from(PRIMARY_UNTIL_COOKIE, Long.toString(until))
+                .path("/")
+                .maxAge(window.toSeconds() + 1)
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+
+        if (!write && !withinWindow(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ReadWriteRoutingDataSource.pinToPrimary();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadWriteRoutingDataSource.unpin();
+        }
+    }
+
+    private boolean withinWindow(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null || !window.isPositive()) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (PRIMARY_UNTIL_COOKIE.equals(cookie.getName())) {
+                try {
+                    long until = Long.parseLong(cookie.getValue());
+                    long now = clock.millis();
+                    // Ignore deadlines further out than this server would ever issue
+                    return until > now && until <= now + window.toMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import uk.gov.hmcts.reform.dev.config.RequestLoggingProperties;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes one summary line per sampled request in key=value form. Server errors and slow requests are
+ * always logged. Other requests are sampled at the rate of the first matching rule, so hot read
+ * endpoints can be logged rarely while writes are logged in full.
+ */
+@Component
+@Order(FilterOrder.REQUEST_LOGGING)
+@EnableConfigurationProperties(RequestLoggingProperties.class)
+@Slf4j
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    private final RequestLoggingProperties properties;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public RequestLoggingFilter(RequestLoggingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !log.isInfoEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long durationMillis = (System.nanoTime() - start) / 1_000_000;
+            int status = response.getStatus();
+            if (status >= 500
+                || durationMillis >= properties.getSlowThreshold().toMillis()
+                || ThreadLocalRandom.current().nextDouble() < sampleRateFor(request.getMethod(), pathOf(request))) {
+                log.info("request method={} route={} status={} durationMs={}",
+                         request.getMethod(), routeOf(request), status, durationMillis);
+            }
+        }
+    }
+
+    /**
+     * Sample rate for a request, from the first matching rule or the default.
+     *
+     * @param method HTTP method
+     * @param path Request path within the application
+     * @return Fraction of matching requests to log
+     */
+    double sampleRateFor(String method, String path) {
+        for (RequestLoggingProperties.Rule rule : properties.getRules()) {
+            boolean methodMatches = !StringUtils.hasText(rule.getMethod()) || rule.getMethod().equalsIgnoreCase(method);
+            if (methodMatches && pathMatcher.match(rule.getPattern(), path)) {
+                return rule.getSampleRate();
+            }
+        }
+        return properties.getDefaultSampleRate();
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    // Log the route template rather than the raw URI so task IDs don't explode log cardinality
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : pathOf(request);
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket for one client under one rate-limit rule.
+ *
+ * <p>Rather than a token count and a refill time, the bucket keeps a single timestamp: the moment it
+ * will next be full. Taking a token pushes that moment on by one refill interval, and a request fits
+ * while the moment stays within {@code capacity} intervals of now. This is the generic cell rate
+ * algorithm, which behaves exactly like a token bucket but can be updated with one compare-and-set.
+ */
+final class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+    TokenBucket(int capacity, double refillPerSecond) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit capacity and refill rate must be positive");
+        }
+        this.intervalNanos = Math.max(1, Math.round(NANOS_PER_SECOND / refillPerSecond));
+        this.burstNanos = intervalNanos * capacity;
+    }
+
+    /**
+     * Take one token if one is available.
+     *
+     * @param nowNanos Current {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise how many nanoseconds until one will be available
+     */
+    long tryConsume(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
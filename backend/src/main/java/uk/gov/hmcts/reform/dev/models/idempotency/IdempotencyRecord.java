@@ -0,0 +1,146 @@
+package uk.gov.hmcts.reform.dev.models.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * The stored outcome of a request sent with an Idempotency-Key. A record without a status is still
+ * being processed by the request holding its lease; once {@code lockedUntil} passes, a retry with the
+ * same key and body may take it over.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+public class IdempotencyRecord implements Persistable<String> {
+
+    // Client scope and the client's key, see IdempotencyFilter
+    @Id
+    @Column(name = "idempotency_key", length = 320)
+    private String key;
+
+    // SHA-256 of method, path and body, so a key reused for a different request can be rejected
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "location", length = 2048)
+    private String location;
+
+    @Column(name = "etag")
+    private String etag;
+
+    @Column(name = "response_body", columnDefinition = "text")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // ID of the request processing the key; only it may store the response or release the key
+    @Column(name = "lock_owner", length = 36)
+    private String lockOwner;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    // Keys are assigned by the client, so tell Spring Data to insert rather than merge new records
+    @Transient
+    private boolean isNew = true;
+
+    // Default constructor for JPA
+    public IdempotencyRecord() {
+    }
+
+    // Constructor with fields
+    public IdempotencyRecord(String key, String requestHash, String lockOwner, LocalDateTime createdAt,
+                             LocalDateTime expiresAt, LocalDateTime lockedUntil) {
+        this.key = key;
+        this.requestHash = requestHash;
+        this.lockOwner = lockOwner;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+        this.lockedUntil = lockedUntil;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public boolean isCompleted() {
+        return responseStatus != null;
+    }
+
+    // Getters
+    public String getKey() {
+        return key;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public Integer getResponseStatus() {
+        return responseStatus;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public String getLockOwner() {
+        return lockOwner;
+    }
+
+    public LocalDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+}
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.dev.models.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The parts of a response replayed for repeats of an Idempotency-Key. Content type, Location and ETag
+ * may be null.
+ */
+@AllArgsConstructor
+@Getter
+public class IdempotentResponse {
+
+    private final int status;
+    private final String contentType;
+    private final String location;
+    private final String etag;
+    private final String body;
+}
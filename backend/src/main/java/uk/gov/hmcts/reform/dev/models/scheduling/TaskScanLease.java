@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.dev.models.scheduling;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ownership of one due-date scan. Only the instance named in {@code owner} may run the scan while
+ * {@code leaseUntil} is in the future; once it lapses another instance can take over.
+ */
+@Entity
+@Table(name = "task_scan_leases")
+public class TaskScanLease implements Persistable<String> {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(length = 100)
+    private String owner;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+
+    // Names are fixed, so tell Spring Data to insert rather than merge new leases
+    @Transient
+    private boolean isNew = true;
+
+    // Default constructor for JPA
+    public TaskScanLease() {
+    }
+
+    // Constructor with fields
+    public TaskScanLease(String name, LocalDateTime leaseUntil) {
+        this.name = name;
+        this.leaseUntil = leaseUntil;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return name;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+}
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * A write accepted with {@code Prefer: respond-async}. It is updated by the background writer,
+ * so its state fields are volatile.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AsyncOperation {
+
+    private final String id;
+    private final String type;
+    private final LocalDateTime submittedAt;
+    private volatile AsyncOperationStatus status = AsyncOperationStatus.PENDING;
+    private volatile Long taskId;
+    private volatile String error;
+    private volatile LocalDateTime completedAt;
+
+    // Constructor with fields
+    public AsyncOperation(String id, String type, Long taskId) {
+        this.id = id;
+        this.type = type;
+        this.taskId = taskId;
+        this.submittedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Mark the operation as applied.
+     *
+     * @param taskId ID of the created or updated task
+     */
+    public void succeeded(Long taskId) {
+        this.taskId = taskId;
+        this.completedAt = LocalDateTime.now();
+        this.status = AsyncOperationStatus.SUCCEEDED;
+    }
+
+    /**
+     * Mark the operation as failed.
+     *
+     * @param error Reason the write was not applied
+     */
+    public void failed(String error) {
+        this.error = error;
+        this.completedAt = LocalDateTime.now();
+        this.status = AsyncOperationStatus.FAILED;
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public AsyncOperationStatus getStatus() {
+        return status;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+}
@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+public enum AsyncOperationStatus {
+    PENDING,
+    SUCCEEDED,
+    FAILED
+}
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.dev.models.task;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -8,21 +9,35 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_due_date_id", columnList = "due_date, id"),
+    @Index(name = "idx_tasks_status_due_date", columnList = "status, due_date"),
+    @Index(name = "idx_tasks_created_at", columnList = "created_at"),
+    @Index(name = "idx_tasks_updated_at", columnList = "updated_at"),
+    @Index(name = "idx_tasks_title", columnList = "title"),
+    @Index(name = "idx_tasks_due_soon_pending", columnList = "due_soon_sent_at, status, due_date"),
+    @Index(name = "idx_tasks_overdue_pending", columnList = "overdue_sent_at, status, due_date")
+})
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    // Pooled allocation lets Hibernate assign IDs without a round-trip per insert, so inserts can be batched
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -41,16 +56,31 @@ public class Task {
 
     @NotNull(message = "Due date is required")
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm", shape = JsonFormat.Shape.STRING)
-    @Column(nullable = false)
+    @Column(name = "due_date", nullable = false)
     private LocalDateTime dueDate;
 
     @CreationTimestamp
-    @Column(updatable = false)
+    @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
     @UpdateTimestamp
+    @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Incremented on every update; concurrent writers holding an older version are rejected
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // When TaskDueScheduler published DUE_SOON / OVERDUE for the current due date; only written by its
+    // bulk updates, so saving a loaded task never overwrites them
+    @Column(name = "due_soon_sent_at", insertable = false, updatable = false)
+    private LocalDateTime dueSoonSentAt;
+
+    @Column(name = "overdue_sent_at", insertable = false, updatable = false)
+    private LocalDateTime overdueSentAt;
+
     // Default constructor for JPA
     public Task() {
     }
@@ -119,4 +149,22 @@ public class Task {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @JsonIgnore
+    public LocalDateTime getDueSoonSentAt() {
+        return dueSoonSentAt;
+    }
+
+    @JsonIgnore
+    public LocalDateTime getOverdueSentAt() {
+        return overdueSentAt;
+    }
 }
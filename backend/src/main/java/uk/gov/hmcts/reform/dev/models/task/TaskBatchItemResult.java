@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@AllArgsConstructor
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskBatchItemResult {
+
+    private final int index;
+    private final Long id;
+    private final TaskBatchItemStatus status;
+    private final Map<String, String> errors;
+
+    public static TaskBatchItemResult of(int index, Long id, TaskBatchItemStatus status) {
+        return new TaskBatchItemResult(index, id, status, null);
+    }
+}
@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+public enum TaskBatchItemStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    NOT_FOUND,
+    INVALID;
+
+    public boolean isSuccess() {
+        return this == CREATED || this == UPDATED || this == DELETED;
+    }
+}
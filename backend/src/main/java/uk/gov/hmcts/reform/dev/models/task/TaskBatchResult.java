@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TaskBatchResult {
+
+    private final int succeeded;
+    private final int failed;
+    private final List<TaskBatchItemResult> items;
+
+    public TaskBatchResult(List<TaskBatchItemResult> items) {
+        this.items = items;
+        this.succeeded = (int) items.stream().filter(item -> item.getStatus().isSuccess()).count();
+        this.failed = items.size() - succeeded;
+    }
+}
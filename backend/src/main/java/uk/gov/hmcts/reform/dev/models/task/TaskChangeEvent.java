@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A committed change to a task, or a notice that it is due soon or overdue. The task is omitted for
+ * deletions and archival.
+ */
+@AllArgsConstructor
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskChangeEvent {
+
+    private final TaskChangeType type;
+    private final Long taskId;
+    private final Task task;
+    private final LocalDateTime occurredAt;
+
+    public static TaskChangeEvent of(TaskChangeType type, Task task) {
+        return new TaskChangeEvent(type, task.getId(), task, LocalDateTime.now());
+    }
+
+    public static TaskChangeEvent deleted(Long taskId) {
+        return new TaskChangeEvent(TaskChangeType.DELETED, taskId, null, LocalDateTime.now());
+    }
+
+    public static TaskChangeEvent archived(Long taskId) {
+        return new TaskChangeEvent(TaskChangeType.ARCHIVED, taskId, null, LocalDateTime.now());
+    }
+}
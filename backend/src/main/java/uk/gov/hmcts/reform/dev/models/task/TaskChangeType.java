@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED,
+    DUE_SOON,
+    OVERDUE,
+    ARCHIVED
+}
@@ -0,0 +1,95 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position within an ordered task listing.
+ *
+ * <p>The cursor carries the sort key values of the last task returned, so the next page
+ * can be fetched with a range predicate instead of an offset scan.
+ */
+public final class TaskCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final TaskPageOrder order;
+    private final Long id;
+    private final LocalDateTime dueDate;
+
+    private TaskCursor(TaskPageOrder order, Long id, LocalDateTime dueDate) {
+        this.order = order;
+        this.id = id;
+        this.dueDate = dueDate;
+    }
+
+    /**
+     * Build the cursor pointing just after the given task.
+     *
+     * @param task Last task of the current page
+     * @param order Ordering of the listing
+     * @return Cursor for the next page
+     */
+    public static TaskCursor after(Task task, TaskPageOrder order) {
+        return new TaskCursor(order, task.getId(), task.getDueDate());
+    }
+
+    /**
+     * Build the cursor pointing just after the given projected row.
+     *
+     * @param view Last row of the current page; must include the due date for {@link TaskPageOrder#DUE_DATE}
+     * @param order Ordering of the listing
+     * @return Cursor for the next page
+     */
+    public static TaskCursor after(TaskView view, TaskPageOrder order) {
+        return new TaskCursor(order, view.getId(), view.getDueDate());
+    }
+
+    /**
+     * Decode a cursor previously returned to a client.
+     *
+     * @param value Encoded cursor
+     * @param order Ordering the client is requesting
+     * @return The decoded cursor
+     * @throws IllegalArgumentException if the cursor is malformed or was issued for another ordering
+     */
+    public static TaskCursor decode(String value, TaskPageOrder order) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (order == TaskPageOrder.ID && separator < 0) {
+                return new TaskCursor(order, Long.valueOf(raw), null);
+            }
+            if (order == TaskPageOrder.DUE_DATE && separator > 0) {
+                return new TaskCursor(
+                    order,
+                    Long.valueOf(raw.substring(separator + 1)),
+                    LocalDateTime.parse(raw.substring(0, separator))
+                );
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value, e);
+        }
+        throw new IllegalArgumentException("Cursor does not match ordering " + order);
+    }
+
+    /**
+     * Encode the cursor for returning to a client.
+     *
+     * @return URL-safe cursor value
+     */
+    public String encode() {
+        String raw = order == TaskPageOrder.DUE_DATE ? dueDate + SEPARATOR + id : String.valueOf(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+}
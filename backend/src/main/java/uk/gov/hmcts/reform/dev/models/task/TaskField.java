@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Task attributes that can be requested with the {@code fields} parameter of the list endpoints.
+ */
+public enum TaskField {
+    ID("id", (view, value) -> view.setId((Long) value)),
+    TITLE("title", (view, value) -> view.setTitle((String) value)),
+    DESCRIPTION("description", (view, value) -> view.setDescription((String) value)),
+    STATUS("status", (view, value) -> view.setStatus((TaskStatus) value)),
+    DUE_DATE("dueDate", (view, value) -> view.setDueDate((LocalDateTime) value)),
+    CREATED_AT("createdAt", (view, value) -> view.setCreatedAt((LocalDateTime) value)),
+    UPDATED_AT("updatedAt", (view, value) -> view.setUpdatedAt((LocalDateTime) value)),
+    VERSION("version", (view, value) -> view.setVersion((Long) value));
+
+    private final String attribute;
+    private final BiConsumer<TaskView, Object> setter;
+
+    TaskField(String attribute, BiConsumer<TaskView, Object> setter) {
+        this.attribute = attribute;
+        this.setter = setter;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Copy a selected column value onto a view.
+     *
+     * @param view View being populated
+     * @param value Column value for this field
+     */
+    public void apply(TaskView view, Object value) {
+        setter.accept(view, value);
+    }
+
+    /**
+     * Parse a comma-separated list of attribute names, e.g. {@code title,status,dueDate}.
+     * The ID is always included so rows can be identified.
+     *
+     * @param fields Requested attribute names
+     * @return The selected fields
+     * @throws IllegalArgumentException if a name is not a task attribute
+     */
+    public static Set<TaskField> parse(String fields) {
+        Set<TaskField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(fromAttribute(trimmed));
+        }
+        return selected;
+    }
+
+    private static TaskField fromAttribute(String name) {
+        for (TaskField field : values()) {
+            if (field.attribute.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task field: " + name);
+    }
+}
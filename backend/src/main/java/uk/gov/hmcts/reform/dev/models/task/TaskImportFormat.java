@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+/**
+ * File formats accepted by the bulk import endpoint.
+ */
+public enum TaskImportFormat {
+    /** One JSON task request per line. */
+    NDJSON,
+    /** Comma-separated values with a header row naming the task request fields. */
+    CSV
+}
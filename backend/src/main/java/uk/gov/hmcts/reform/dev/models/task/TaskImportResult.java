@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class TaskImportResult {
+
+    private final long rows;
+    private final long created;
+    private final long failed;
+    private final boolean completed;
+    private final List<TaskImportRowError> errors;
+    private final boolean errorsTruncated;
+    private final long durationMs;
+    private final double rowsPerSecond;
+}
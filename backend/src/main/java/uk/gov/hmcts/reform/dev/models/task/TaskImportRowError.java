@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@AllArgsConstructor
+@Getter
+public class TaskImportRowError {
+
+    private final long row;
+    private final Map<String, String> errors;
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap summary of the task table that changes whenever a task is created, updated or deleted.
+ */
+@AllArgsConstructor
+@Getter
+public class TaskListVersion {
+
+    private final Long count;
+    private final Long maxId;
+    private final LocalDateTime lastUpdated;
+}
@@ -0,0 +1,6 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+public enum TaskPageOrder {
+    ID,
+    DUE_DATE
+}
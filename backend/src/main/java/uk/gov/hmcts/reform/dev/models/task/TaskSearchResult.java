@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class TaskSearchResult<T> {
+
+    private final List<T> items;
+    private final int page;
+    private final int size;
+    private final boolean hasMore;
+}
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+public enum TaskSortField {
+    ID("id"),
+    TITLE("title"),
+    STATUS("status"),
+    DUE_DATE("dueDate"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String attribute;
+
+    TaskSortField(String attribute) {
+        this.attribute = attribute;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+}
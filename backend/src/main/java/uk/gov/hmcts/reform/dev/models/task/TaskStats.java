@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Dashboard aggregates over all tasks. Overdue and due-this-week counts exclude completed tasks.
+ */
+@AllArgsConstructor
+@Getter
+public class TaskStats {
+
+    private final long total;
+    private final Map<TaskStatus, Long> byStatus;
+    private final long overdue;
+    private final long dueThisWeek;
+    private final LocalDateTime generatedAt;
+}
@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Task counts for one status, as returned by the grouped stats query.
+ */
+@AllArgsConstructor
+@Getter
+public class TaskStatusStats {
+
+    private final TaskStatus status;
+    private final Long total;
+    private final Long overdue;
+    private final Long dueThisWeek;
+}
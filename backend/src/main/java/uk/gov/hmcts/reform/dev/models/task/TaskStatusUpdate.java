@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.dev.models.task;
+
+import jakarta.validation.constraints.NotNull;
+
+public class TaskStatusUpdate {
+
+    @NotNull(message = "ID is required")
+    private Long id;
+
+    @NotNull(message = "Status is required")
+    private TaskStatus status;
+
+    // Default constructor
+    public TaskStatusUpdate() {
+    }
+
+    // Constructor with fields
+    public TaskStatusUpdate(Long id, TaskStatus status) {
+        this.id = id;
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+}
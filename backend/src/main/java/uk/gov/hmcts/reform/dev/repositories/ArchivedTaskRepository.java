@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.models.archive.ArchivedTask;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    /**
+     * Copy tasks into the archive in one statement, without loading them.
+     *
+     * @param ids IDs of the tasks to copy
+     * @param archivedAt Archive timestamp for the copied rows
+     * @return Number of rows copied
+     */
+    @Modifying
+    @Query(value = "insert into tasks_archive"
+        + " (id, title, description, status, due_date, created_at, updated_at, version, archived_at)"
+        + " select id, title, description, status, due_date, created_at, updated_at, version, :archivedAt"
+        + " from tasks where id in (:ids)", nativeQuery = true)
+    int copyFromTasks(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.models.idempotency.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Claim an existing key in a single statement. Succeeds if its TTL has passed, or if it is still in
+     * progress for the same request and the holder's lease has lapsed, so at most one retry takes it over.
+     *
+     * @param key Idempotency key
+     * @param requestHash Fingerprint of the request taking the key over
+     * @param owner ID of the request taking the key over
+     * @param now Current time
+     * @param expiresAt New expiry of the record
+     * @param lockedUntil End of the new owner's processing lease
+     * @return 1 if the key is now held by {@code owner}, otherwise 0
+     */
+    @Modifying
+    @Query("update IdempotencyRecord r set r.requestHash = :requestHash, r.lockOwner = :owner,"
+        + " r.lockedUntil = :lockedUntil, r.createdAt = :now, r.expiresAt = :expiresAt,"
+        + " r.responseStatus = null, r.contentType = null, r.location = null, r.etag = null,"
+        + " r.responseBody = null"
+        + " where r.key = :key and (r.expiresAt <= :now"
+        + " or (r.responseStatus is null and r.lockedUntil <= :now and r.requestHash = :requestHash))")
+    int takeOver(@Param("key") String key,
+                 @Param("requestHash") String requestHash,
+                 @Param("owner") String owner,
+                 @Param("now") LocalDateTime now,
+                 @Param("expiresAt") LocalDateTime expiresAt,
+                 @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * Store the response for a key, only if {@code owner} still holds it.
+     *
+     * @param key Idempotency key
+     * @param owner ID of the request that processed the key
+     * @param status HTTP status code
+     * @param contentType Response content type, may be null
+     * @param location Location header, may be null
+     * @param etag ETag header, may be null
+     * @param body Response body
+     * @return 1 if the response was stored, 0 if the key has been taken over by a retry
+     */
+    @Modifying
+    @Query("update IdempotencyRecord r set r.responseStatus = :status, r.contentType = :contentType,"
+        + " r.location = :location, r.etag = :etag, r.responseBody = :body, r.lockedUntil = null"
+        + " where r.key = :key and r.lockOwner = :owner and r.responseStatus is null")
+    int complete(@Param("key") String key,
+                 @Param("owner") String owner,
+                 @Param("status") int status,
+                 @Param("contentType") String contentType,
+                 @Param("location") String location,
+                 @Param("etag") String etag,
+                 @Param("body") String body);
+
+    /**
+     * Delete an in-progress key, only if {@code owner} still holds it.
+     *
+     * @param key Idempotency key
+     * @param owner ID of the request giving the key up
+     * @return Number of records deleted
+     */
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.key = :key and r.lockOwner = :owner and r.responseStatus is null")
+    int release(@Param("key") String key, @Param("owner") String owner);
+
+    /**
+     * Delete records whose TTL has passed.
+     *
+     * @param now Current time
+     * @return Number of records deleted
+     */
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
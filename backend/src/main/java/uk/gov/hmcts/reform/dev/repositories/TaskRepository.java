@@ -1,11 +1,260 @@
 package uk.gov.hmcts.reform.dev.repositories;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskListVersion;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatusStats;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    // Spring Data JPA automatically provides CRUD operations
-    // We can add custom query methods here if needed
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskSearchRepository {
+
+    /**
+     * Summarise the table for conditional requests on the task list.
+     *
+     * @return Row count, highest ID and latest update time
+     */
+    @Query("select new uk.gov.hmcts.reform.dev.models.task.TaskListVersion(count(t), max(t.id), max(t.updatedAt))"
+        + " from Task t")
+    TaskListVersion findListVersion();
+
+    /**
+     * Count tasks per status in one grouped pass, along with how many are overdue at {@code now}
+     * and how many fall due between {@code now} and {@code weekEnd}.
+     *
+     * @param now Reference time for overdue and due-soon buckets
+     * @param weekEnd Exclusive end of the due-this-week bucket
+     * @return One row per status that has at least one task
+     */
+    @Query("select new uk.gov.hmcts.reform.dev.models.task.TaskStatusStats(t.status, count(t),"
+        + " sum(case when t.dueDate < :now then 1 else 0 end),"
+        + " sum(case when t.dueDate >= :now and t.dueDate < :weekEnd then 1 else 0 end))"
+        + " from Task t group by t.status")
+    List<TaskStatusStats> findStatusStats(@Param("now") LocalDateTime now, @Param("weekEnd") LocalDateTime weekEnd);
+
+    /**
+     * Keyset page ordered by ID, starting after the given ID.
+     *
+     * @param afterId ID of the last task already returned
+     * @param pageable Page size (the page number is ignored)
+     * @return Tasks with an ID greater than {@code afterId}
+     */
+    @Query("select t from Task t where t.id > :afterId order by t.id asc")
+    List<Task> findPageAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * First keyset page ordered by due date, then ID.
+     *
+     * @param pageable Page size (the page number is ignored)
+     * @return Tasks with the earliest due dates
+     */
+    @Query("select t from Task t order by t.dueDate asc, t.id asc")
+    List<Task> findFirstPageByDueDate(Pageable pageable);
+
+    /**
+     * Keyset page ordered by due date, then ID, starting after the given position.
+     *
+     * @param dueDate Due date of the last task already returned
+     * @param afterId ID of the last task already returned
+     * @param pageable Page size (the page number is ignored)
+     * @return Tasks positioned after {@code (dueDate, afterId)}
+     */
+    @Query("select t from Task t where t.dueDate > :dueDate or (t.dueDate = :dueDate and t.id > :afterId)"
+        + " order by t.dueDate asc, t.id asc")
+    List<Task> findPageAfterDueDate(@Param("dueDate") LocalDateTime dueDate,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    /**
+     * Lock a page of tasks in the given statuses due in {@code (after, until]} that have not had their
+     * {@code DUE_SOON} event yet, ordered by due date then ID. Served by the
+     * {@code (due_soon_sent_at, status, due_date)} index, so the cost depends on the number of pending
+     * tasks rather than the size of the table. The locks hold off a concurrent change of due date until
+     * the page has been marked as sent.
+     *
+     * @param statuses Statuses to include
+     * @param after Exclusive lower bound on the due date
+     * @param until Inclusive upper bound on the due date
+     * @param pageable Page size (the page number is ignored)
+     * @return Locked tasks still waiting for their {@code DUE_SOON} event
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.dueSoonSentAt is null and t.status in :statuses"
+        + " and t.dueDate > :after and t.dueDate <= :until order by t.dueDate asc, t.id asc")
+    List<Task> lockDueSoonPending(@Param("statuses") Collection<TaskStatus> statuses,
+                                  @Param("after") LocalDateTime after,
+                                  @Param("until") LocalDateTime until,
+                                  Pageable pageable);
+
+    /**
+     * Lock a page of tasks in the given statuses due by {@code until} that have not had their
+     * {@code OVERDUE} event yet, ordered by due date then ID. Served by the
+     * {@code (overdue_sent_at, status, due_date)} index.
+     *
+     * @param statuses Statuses to include
+     * @param until Inclusive upper bound on the due date
+     * @param pageable Page size (the page number is ignored)
+     * @return Locked tasks still waiting for their {@code OVERDUE} event
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.overdueSentAt is null and t.status in :statuses"
+        + " and t.dueDate <= :until order by t.dueDate asc, t.id asc")
+    List<Task> lockOverduePending(@Param("statuses") Collection<TaskStatus> statuses,
+                                  @Param("until") LocalDateTime until,
+                                  Pageable pageable);
+
+    /**
+     * Record that {@code DUE_SOON} has been published for the given tasks. Leaves the version and
+     * update time alone, as the task itself has not changed.
+     *
+     * @param ids Task IDs
+     * @param sentAt Time the events were published
+     * @return Number of tasks marked
+     */
+    @Modifying
+    @Query("update Task t set t.dueSoonSentAt = :sentAt where t.id in :ids")
+    int markDueSoonSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Record that {@code OVERDUE} has been published for the given tasks.
+     *
+     * @param ids Task IDs
+     * @param sentAt Time the events were published
+     * @return Number of tasks marked
+     */
+    @Modifying
+    @Query("update Task t set t.overdueSentAt = :sentAt where t.id in :ids")
+    int markOverdueSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Clear the due-date notification state of a task after its due date changes, so the scheduler
+     * sends {@code DUE_SOON} and {@code OVERDUE} again for the new date.
+     *
+     * @param id Task ID
+     * @return 1 if the task exists, otherwise 0
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Task t set t.dueSoonSentAt = null, t.overdueSentAt = null where t.id = :id")
+    int resetDueNotifications(@Param("id") Long id);
+
+    /**
+     * Set the status of a task in a single statement, without loading it first.
+     *
+     * @param id Task ID
+     * @param status New status
+     * @param updatedAt Timestamp to record, as bulk updates bypass {@code @UpdateTimestamp}
+     * @return Number of rows updated, 0 if the task does not exist
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1"
+        + " where t.id = :id")
+    int updateStatus(@Param("id") Long id,
+                     @Param("status") TaskStatus status,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Set the status of a task in a single statement, only if it is still at the expected version.
+     *
+     * @param id Task ID
+     * @param status New status
+     * @param version Version the caller last saw
+     * @param updatedAt Timestamp to record, as bulk updates bypass {@code @UpdateTimestamp}
+     * @return Number of rows updated, 0 if the task does not exist or has a different version
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1"
+        + " where t.id = :id and t.version = :version")
+    int updateStatusIfVersion(@Param("id") Long id,
+                              @Param("status") TaskStatus status,
+                              @Param("version") Long version,
+                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Delete a task in a single statement, without checking for it first.
+     *
+     * @param id Task ID
+     * @return Number of rows deleted, 0 if the task does not exist
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.id = :id")
+    int deleteTaskById(@Param("id") Long id);
+
+    /**
+     * Find which of the given IDs exist, without loading the tasks.
+     *
+     * @param ids Candidate IDs
+     * @return The subset of IDs that exist
+     */
+    @Query("select t.id from Task t where t.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Stream every task ordered by ID. Must be consumed inside a transaction and closed afterwards.
+     *
+     * @return Lazily fetched stream of tasks
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Task t order by t.id asc")
+    Stream<Task> streamAllOrderById();
+
+    /**
+     * Stream tasks updated at or after {@code since}. Must be consumed inside a transaction and closed
+     * afterwards.
+     *
+     * @param since Inclusive lower bound on the last update time
+     * @return Stream of tasks
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Task t where t.updatedAt >= :since")
+    Stream<Task> streamUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Stream every task ID in ascending order, read from the primary key index only. Must be consumed
+     * inside a transaction and closed afterwards.
+     *
+     * @return Stream of IDs
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select t.id from Task t order by t.id asc")
+    Stream<Long> streamAllIds();
+
+    /**
+     * Lock a batch of tasks in {@code status} last updated before {@code before}, oldest first,
+     * skipping rows locked by another archiver instance, and return their IDs. The locks keep the tasks
+     * from changing between being copied to the archive and being deleted; the rows themselves are copied
+     * in SQL, so only the IDs are selected.
+     *
+     * @param status Status of the tasks to lock
+     * @param before Exclusive upper bound on the last update time
+     * @param pageable Batch size
+     * @return IDs of the locked tasks
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    // -2 is LockOptions.SKIP_LOCKED, rendered as FOR UPDATE SKIP LOCKED
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select t.id from Task t where t.status = :status and t.updatedAt < :before order by t.updatedAt, t.id")
+    List<Long> lockIdsUpdatedBefore(@Param("status") TaskStatus status,
+                                    @Param("before") LocalDateTime before,
+                                    Pageable pageable);
 }
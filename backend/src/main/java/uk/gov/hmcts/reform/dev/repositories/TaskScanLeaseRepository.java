@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.models.scheduling.TaskScanLease;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface TaskScanLeaseRepository extends JpaRepository<TaskScanLease, String> {
+
+    /**
+     * Take or renew a lease in a single statement. Succeeds if the lease has lapsed or is already held
+     * by {@code owner}, so at most one instance holds it at a time.
+     *
+     * @param name Lease name
+     * @param owner ID of the instance asking for the lease
+     * @param now Current time
+     * @param leaseUntil New expiry
+     * @return 1 if the lease is now held by {@code owner}, otherwise 0
+     */
+    @Modifying
+    @Query("update TaskScanLease l set l.owner = :owner, l.leaseUntil = :leaseUntil"
+        + " where l.name = :name and (l.leaseUntil < :now or l.owner = :owner)")
+    int acquire(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Extend the lease, only if {@code owner} still holds it.
+     *
+     * @param name Lease name
+     * @param owner ID of the instance running the scan
+     * @param leaseUntil New expiry
+     * @return 1 if the lease was extended, 0 if it has been taken by another instance
+     */
+    @Modifying
+    @Query("update TaskScanLease l set l.leaseUntil = :leaseUntil where l.name = :name and l.owner = :owner")
+    int renew(@Param("name") String name,
+              @Param("owner") String owner,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Give up a lease so another instance can take it without waiting for it to lapse.
+     *
+     * @param name Lease name
+     * @param owner ID of the instance holding the lease
+     * @param now Current time
+     * @return 1 if the lease was released, otherwise 0
+     */
+    @Modifying
+    @Query("update TaskScanLease l set l.leaseUntil = :now where l.name = :name and l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
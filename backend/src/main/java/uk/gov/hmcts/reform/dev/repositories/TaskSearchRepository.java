@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.domain.Sort;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskCursor;
+import uk.gov.hmcts.reform.dev.models.task.TaskField;
+import uk.gov.hmcts.reform.dev.models.task.TaskPageOrder;
+import uk.gov.hmcts.reform.dev.models.task.TaskSearchCriteria;
+import uk.gov.hmcts.reform.dev.models.task.TaskSortField;
+import uk.gov.hmcts.reform.dev.models.task.TaskView;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Dynamic task queries that cannot be expressed as derived query methods.
+ */
+public interface TaskSearchRepository {
+
+    /**
+     * Find tasks matching the criteria, without issuing a count query.
+     *
+     * @param criteria Filters to apply; null fields are ignored
+     * @param sortField Field to sort by; ID is always used as a tie-breaker
+     * @param direction Sort direction
+     * @param offset Number of matching rows to skip
+     * @param limit Maximum number of rows to return
+     * @return Matching tasks
+     */
+    List<Task> search(TaskSearchCriteria criteria, TaskSortField sortField, Sort.Direction direction,
+                      int offset, int limit);
+
+    /**
+     * Same as {@link #search}, but selects only the requested columns.
+     *
+     * @param fields Columns to select
+     * @param criteria Filters to apply; null fields are ignored
+     * @param sortField Field to sort by; ID is always used as a tie-breaker
+     * @param direction Sort direction
+     * @param offset Number of matching rows to skip
+     * @param limit Maximum number of rows to return
+     * @return Matching rows as partial views
+     */
+    List<TaskView> searchViews(Set<TaskField> fields, TaskSearchCriteria criteria, TaskSortField sortField,
+                               Sort.Direction direction, int offset, int limit);
+
+    /**
+     * Keyset page selecting only the requested columns.
+     *
+     * @param fields Columns to select; must include the due date for {@link TaskPageOrder#DUE_DATE}
+     * @param after Position to continue from, or null for the first page
+     * @param order Ordering of the listing
+     * @param limit Maximum number of rows to return
+     * @return Rows positioned after {@code after} as partial views
+     */
+    List<TaskView> findViewPage(Set<TaskField> fields, TaskCursor after, TaskPageOrder order, int limit);
+}
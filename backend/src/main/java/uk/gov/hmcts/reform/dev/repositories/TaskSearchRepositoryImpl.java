@@ -0,0 +1,163 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskCursor;
+import uk.gov.hmcts.reform.dev.models.task.TaskField;
+import uk.gov.hmcts.reform.dev.models.task.TaskPageOrder;
+import uk.gov.hmcts.reform.dev.models.task.TaskSearchCriteria;
+import uk.gov.hmcts.reform.dev.models.task.TaskSortField;
+import uk.gov.hmcts.reform.dev.models.task.TaskView;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Task> search(TaskSearchCriteria criteria, TaskSortField sortField, Sort.Direction direction,
+                             int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+
+        query.select(root)
+            .where(buildPredicates(cb, root, criteria))
+            .orderBy(buildOrder(cb, root, sortField, direction));
+
+        return entityManager.createQuery(query)
+            .setFirstResult(offset)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public List<TaskView> searchViews(Set<TaskField> fields, TaskSearchCriteria criteria, TaskSortField sortField,
+                                      Sort.Direction direction, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+
+        query.multiselect(buildSelection(root, fields))
+            .where(buildPredicates(cb, root, criteria))
+            .orderBy(buildOrder(cb, root, sortField, direction));
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query)
+            .setFirstResult(offset)
+            .setMaxResults(limit);
+        return toViews(typed.getResultList(), fields);
+    }
+
+    @Override
+    public List<TaskView> findViewPage(Set<TaskField> fields, TaskCursor after, TaskPageOrder order, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        Path<Long> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        if (order == TaskPageOrder.DUE_DATE) {
+            Path<LocalDateTime> dueDate = root.get("dueDate");
+            if (after != null) {
+                predicates.add(cb.or(
+                    cb.greaterThan(dueDate, after.getDueDate()),
+                    cb.and(cb.equal(dueDate, after.getDueDate()), cb.greaterThan(id, after.getId()))
+                ));
+            }
+            orders.add(cb.asc(dueDate));
+        } else if (after != null) {
+            predicates.add(cb.greaterThan(id, after.getId()));
+        }
+        orders.add(cb.asc(id));
+
+        query.multiselect(buildSelection(root, fields))
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(orders);
+
+        return toViews(entityManager.createQuery(query).setMaxResults(limit).getResultList(), fields);
+    }
+
+    static Predicate[] buildPredicates(CriteriaBuilder cb, Root<Task> root, TaskSearchCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (criteria.getStatus() != null && !criteria.getStatus().isEmpty()) {
+            predicates.add(root.get("status").in(criteria.getStatus()));
+        }
+        addRange(cb, predicates, root.get("dueDate"), criteria.getDueFrom(), criteria.getDueTo());
+        addRange(cb, predicates, root.get("createdAt"), criteria.getCreatedFrom(), criteria.getCreatedTo());
+        addRange(cb, predicates, root.get("updatedAt"), criteria.getUpdatedFrom(), criteria.getUpdatedTo());
+        if (criteria.getTitlePrefix() != null && !criteria.getTitlePrefix().isEmpty()) {
+            // A leading-anchored LIKE can use the title index; wildcards in the input are matched literally
+            predicates.add(cb.like(root.get("title"), escapeLike(criteria.getTitlePrefix()) + "%", LIKE_ESCAPE));
+        }
+
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    static List<Order> buildOrder(CriteriaBuilder cb, Root<Task> root, TaskSortField sortField,
+                                  Sort.Direction direction) {
+        List<Order> orders = new ArrayList<>();
+        Path<Object> sortPath = root.get(sortField.getAttribute());
+        orders.add(direction.isDescending() ? cb.desc(sortPath) : cb.asc(sortPath));
+        if (sortField != TaskSortField.ID) {
+            orders.add(direction.isDescending() ? cb.desc(root.get("id")) : cb.asc(root.get("id")));
+        }
+        return orders;
+    }
+
+    private static List<Selection<?>> buildSelection(Root<Task> root, Set<TaskField> fields) {
+        List<Selection<?>> selection = new ArrayList<>(fields.size());
+        for (TaskField field : fields) {
+            selection.add(root.get(field.getAttribute()).alias(field.getAttribute()));
+        }
+        return selection;
+    }
+
+    private static List<TaskView> toViews(List<Tuple> rows, Set<TaskField> fields) {
+        List<TaskView> views = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            TaskView view = new TaskView();
+            for (TaskField field : fields) {
+                field.apply(view, row.get(field.getAttribute()));
+            }
+            views.add(view);
+        }
+        return views;
+    }
+
+    private static void addRange(CriteriaBuilder cb, List<Predicate> predicates, Path<LocalDateTime> path,
+                                 LocalDateTime from, LocalDateTime to) {
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(path, from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThan(path, to));
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
+}
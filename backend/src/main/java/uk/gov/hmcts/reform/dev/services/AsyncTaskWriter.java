@@ -0,0 +1,226 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.exceptions.QueueFullException;
+import uk.gov.hmcts.reform.dev.models.task.AsyncOperation;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Applies writes accepted with {@code Prefer: respond-async} from a bounded queue. A single writer
+ * thread drains whatever has queued up and commits it as one transaction, so a burst costs one
+ * commit per batch rather than one per request. If any write in a batch fails, the batch is rolled
+ * back and its writes are retried one transaction each, so only the failing write is reported.
+ */
+@Component
+@Slf4j
+public class AsyncTaskWriter {
+
+    private final TaskService taskService;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingWrite> queue;
+    private final int batchSize;
+    private final long retryAfterSeconds;
+    private final Cache<String, AsyncOperation> operations;
+    private final Counter rejected;
+    private final boolean enabled;
+    private volatile boolean running;
+    private Thread writer;
+
+    public AsyncTaskWriter(TaskService taskService, PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${tasks.async.enabled:true}") boolean enabled,
+                           @Value("${tasks.async.queue-capacity:10000}") int queueCapacity,
+                           @Value("${tasks.async.batch-size:200}") int batchSize,
+                           @Value("${tasks.async.retry-after:1s}") Duration retryAfter,
+                           @Value("${tasks.async.operation-ttl:1h}") Duration operationTtl) {
+        this.taskService = taskService;
+        this.enabled = enabled;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.operations = Caffeine.newBuilder()
+            .maximumSize(Math.max(queueCapacity * 10L, 1000))
+            .expireAfterWrite(operationTtl)
+            .build();
+        Gauge.builder("tasks.async.queue.size", queue, BlockingQueue::size)
+            .description("Asynchronous task writes waiting to be applied")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("tasks.async.rejected")
+            .description("Asynchronous task writes rejected because the queue was full")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Start the writer thread. When disabled no thread is started and callers apply writes synchronously.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("task-async-writer").daemon().start(this::drain);
+    }
+
+    /**
+     * Stop accepting writes and apply everything still queued before returning. Writes the writer thread
+     * did not get to in time are marked failed, so no accepted operation stays pending.
+     *
+     * @throws InterruptedException if interrupted while waiting for the queue to drain
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        List<PendingWrite> leftover = new ArrayList<>();
+        queue.drainTo(leftover);
+        leftover.forEach(write -> write.operation.failed("Shut down before the write was applied"));
+    }
+
+    /**
+     * Whether async writes are handled by this instance. When disabled, {@code Prefer: respond-async}
+     * is ignored and writes are applied synchronously.
+     *
+     * @return true if the writer thread is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queue a task creation.
+     *
+     * @param taskRequest Validated task data
+     * @return The pending operation
+     * @throws QueueFullException if the queue is full
+     */
+    public AsyncOperation submitCreate(TaskRequest taskRequest) {
+        return submit(new AsyncOperation(UUID.randomUUID().toString(), "CREATE", null),
+                      () -> taskService.createTask(taskRequest));
+    }
+
+    /**
+     * Queue a status update.
+     *
+     * @param id Task ID
+     * @param status New status
+     * @param expectedVersion Version the caller last saw, or null to update unconditionally
+     * @return The pending operation
+     * @throws QueueFullException if the queue is full
+     */
+    public AsyncOperation submitStatusUpdate(Long id, TaskStatus status, Long expectedVersion) {
+        return submit(new AsyncOperation(UUID.randomUUID().toString(), "UPDATE_STATUS", id),
+                      () -> taskService.updateTaskStatus(id, status, expectedVersion));
+    }
+
+    /**
+     * Look up an operation accepted by this instance.
+     *
+     * @param operationId Operation ID
+     * @return The operation, if it is known and has not expired
+     */
+    public Optional<AsyncOperation> getOperation(String operationId) {
+        return Optional.ofNullable(operations.getIfPresent(operationId));
+    }
+
+    private AsyncOperation submit(AsyncOperation operation, Supplier<Task> write) {
+        if (!running) {
+            throw new QueueFullException("Asynchronous writes are not being accepted", retryAfterSeconds);
+        }
+        operations.put(operation.getId(), operation);
+        PendingWrite pending = new PendingWrite(operation, write);
+        if (!queue.offer(pending)) {
+            operations.invalidate(operation.getId());
+            rejected.increment();
+            throw new QueueFullException("Write queue is full, retry later", retryAfterSeconds);
+        }
+        // The writer may have stopped between the check above and the offer; if nothing took the write, take it back
+        if (!running && queue.remove(pending)) {
+            operations.invalidate(operation.getId());
+            throw new QueueFullException("Asynchronous writes are not being accepted", retryAfterSeconds);
+        }
+        return operation;
+    }
+
+    private void drain() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                apply(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected failure in async task writer", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void apply(List<PendingWrite> batch) {
+        List<Task> results;
+        try {
+            results = transactionTemplate.execute(status -> batch.stream().map(write -> write.action.get()).toList());
+        } catch (RuntimeException e) {
+            log.debug("Group commit of {} writes failed, applying individually: {}", batch.size(), e.getMessage());
+            batch.forEach(this::applySingly);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).operation.succeeded(results.get(i).getId());
+        }
+    }
+
+    private void applySingly(PendingWrite write) {
+        try {
+            Task task = transactionTemplate.execute(status -> write.action.get());
+            write.operation.succeeded(task.getId());
+        } catch (RuntimeException e) {
+            write.operation.failed(e.getMessage());
+        }
+    }
+
+    private static final class PendingWrite {
+
+        private final AsyncOperation operation;
+        private final Supplier<Task> action;
+
+        private PendingWrite(AsyncOperation operation, Supplier<Task> action) {
+            this.operation = operation;
+            this.action = action;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.models.idempotency.IdempotencyRecord;
+import uk.gov.hmcts.reform.dev.models.idempotency.IdempotentResponse;
+import uk.gov.hmcts.reform.dev.repositories.IdempotencyRecordRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Stores responses by Idempotency-Key. A new key costs one primary key lookup and one insert, and storing
+ * its response one conditional update. Completed records are kept in a bounded in-memory cache in front
+ * of the table once read, so repeats are usually answered without a database round-trip.
+ *
+ * <p>While a request is being processed its key holds a short lease. If the instance dies or the client
+ * gives up, a retry with the same body takes the key over once the lease lapses instead of getting 409
+ * until the TTL expires. Each claim has an owner ID, so a request that outlived its lease cannot store its
+ * response over, or release, the retry's claim.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    private final IdempotencyRecordRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration processingLease;
+    private final Cache<String, IdempotencyRecord> completed;
+
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${tasks.idempotency.ttl:24h}") Duration ttl,
+                              @Value("${tasks.idempotency.processing-lease:1m}") Duration processingLease,
+                              @Value("${tasks.idempotency.cache-size:10000}") long cacheSize) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.processingLease = processingLease;
+        this.completed = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    /**
+     * Claim a key for a new request, or return the record already held for it.
+     *
+     * @param key Idempotency key, already scoped to the client
+     * @param requestHash Fingerprint of the request
+     * @param owner Unique ID of the request, passed again to {@link #complete} or {@link #release}
+     * @return Empty if the caller now owns the key and should process the request, otherwise the
+     *     existing record, which may still be in progress
+     */
+    public Optional<IdempotencyRecord> claim(String key, String requestHash, String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord cached = completed.getIfPresent(key);
+        if (cached != null && cached.getExpiresAt().isAfter(now)) {
+            return Optional.of(cached);
+        }
+
+        Optional<IdempotencyRecord> existing = repository.findById(key);
+        if (existing.isEmpty()) {
+            try {
+                repository.saveAndFlush(new IdempotencyRecord(key, requestHash, owner, now, now.plus(ttl),
+                                                               now.plus(processingLease)));
+                return Optional.empty();
+            } catch (DataIntegrityViolationException e) {
+                // Another request claimed the key between the lookup and the insert
+                return Optional.of(repository.findById(key).orElseThrow(() -> e));
+            }
+        }
+
+        IdempotencyRecord record = existing.get();
+        if (!canTakeOver(record, requestHash, now)) {
+            if (record.isCompleted()) {
+                completed.put(key, record);
+            }
+            return existing;
+        }
+        Integer taken = transactionTemplate.execute(status -> repository.takeOver(
+            key, requestHash, owner, now, now.plus(ttl), now.plus(processingLease)));
+        if (taken != null && taken == 1) {
+            return Optional.empty();
+        }
+        // Another retry took the key over first, or it was released or purged in between
+        Optional<IdempotencyRecord> current = repository.findById(key);
+        return current.isPresent() ? current : claim(key, requestHash, owner);
+    }
+
+    /**
+     * Store the response for a claimed key so that repeats replay it.
+     *
+     * @param key Idempotency key
+     * @param owner ID the key was claimed with
+     * @param response Response to replay
+     */
+    @Transactional
+    public void complete(String key, String owner, IdempotentResponse response) {
+        int stored = repository.complete(key, owner, response.getStatus(), response.getContentType(),
+                                         response.getLocation(), response.getEtag(), response.getBody());
+        if (stored == 0) {
+            log.warn("Idempotency key was taken over by a retry before its response was stored;"
+                         + " the processing lease may be shorter than the request took");
+        }
+    }
+
+    /**
+     * Give up a claimed key after a failure so the client can retry with it.
+     *
+     * @param key Idempotency key
+     * @param owner ID the key was claimed with
+     */
+    @Transactional
+    public void release(String key, String owner) {
+        repository.release(key, owner);
+    }
+
+    /**
+     * Delete records past their TTL.
+     */
+    @Scheduled(fixedDelayString = "${tasks.idempotency.purge-interval:10m}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = repository.deleteExpired(LocalDateTime.now());
+        log.debug("Purged {} expired idempotency keys", deleted);
+    }
+
+    private static boolean canTakeOver(IdempotencyRecord record, String requestHash, LocalDateTime now) {
+        if (!record.getExpiresAt().isAfter(now)) {
+            return true;
+        }
+        return !record.isCompleted()
+            && record.getLockedUntil() != null
+            && !record.getLockedUntil().isAfter(now)
+            && record.getRequestHash().equals(requestHash);
+    }
+}
@@ -0,0 +1,120 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.ArchivedTaskRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves completed tasks that have not changed for {@code tasks.archive.age} from {@code tasks} into
+ * {@code tasks_archive}, so the table that every list, search and stats query reads only holds live work.
+ *
+ * <p>Each batch is copied and deleted in one transaction while its rows are locked, so a task is never in
+ * both tables or neither. Rows locked by another instance are skipped. Runs are throttled: at most
+ * {@code max-batches-per-run} batches, with a pause between them, so archiving a large backlog does not
+ * compete with request traffic for locks, I/O or replication bandwidth. The pauses hold a scheduler thread,
+ * so {@code spring.task.scheduling.pool.size} leaves room for the other background jobs to keep running.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.archive.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class TaskArchiver {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration age;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration batchPause;
+    private final Counter archived;
+
+    public TaskArchiver(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+                        ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${tasks.archive.age:30d}") Duration age,
+                        @Value("${tasks.archive.batch-size:500}") int batchSize,
+                        @Value("${tasks.archive.max-batches-per-run:20}") int maxBatchesPerRun,
+                        @Value("${tasks.archive.batch-pause:200ms}") Duration batchPause) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.age = age;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.batchPause = batchPause;
+        this.archived = Counter.builder("tasks.archive.moved")
+            .description("Completed tasks moved to the archive table")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Archive completed tasks older than the configured age, in throttled batches.
+     *
+     * @return Number of tasks archived
+     */
+    @Scheduled(fixedDelayString = "${tasks.archive.poll-interval:10m}",
+               initialDelayString = "${tasks.archive.initial-delay:1m}")
+    public int archiveCompletedTasks() {
+        LocalDateTime before = LocalDateTime.now().minus(age);
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            if (batch > 0 && !pause()) {
+                break;
+            }
+            int moved = archiveBatch(before);
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} completed tasks last updated before {}", total, before);
+        }
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime before) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> ids = taskRepository.lockIdsUpdatedBefore(TaskStatus.COMPLETED, before,
+                                                                 PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            archivedTaskRepository.copyFromTasks(ids, LocalDateTime.now());
+            taskRepository.deleteAllByIdInBatch(ids);
+            ids.forEach(id -> eventPublisher.publishEvent(TaskChangeEvent.archived(id)));
+            return ids.size();
+        });
+        int count = moved == null ? 0 : moved;
+        archived.increment(count);
+        return count;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeEvent;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pushes committed task changes to Server-Sent Events subscribers. Recent events are kept in a bounded
+ * ring buffer so a reconnecting client can resume from its Last-Event-ID; a client that has fallen
+ * further behind than the buffer is sent a {@code reset} event and should reload the task list.
+ */
+@Component
+@Slf4j
+public class TaskChangeBroadcaster {
+
+    static final String RESET_EVENT = "reset";
+
+    private final int bufferSize;
+    private final long emitterTimeoutMillis;
+    private final Deque<BufferedEvent> buffer = new ArrayDeque<>();
+    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+    // One thread keeps delivery in commit order and off the committing request thread
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("task-sse-dispatch").daemon().factory());
+    private long lastSequence;
+
+    public TaskChangeBroadcaster(@Value("${tasks.stream.buffer-size:1000}") int bufferSize,
+                                 @Value("${tasks.stream.timeout:30m}") Duration emitterTimeout) {
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+    }
+
+    /**
+     * Buffer a change once its transaction has committed and fan it out to subscribers.
+     *
+     * @param event The committed change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChange(TaskChangeEvent event) {
+        synchronized (buffer) {
+            BufferedEvent buffered = new BufferedEvent(++lastSequence, event);
+            buffer.addLast(buffered);
+            if (buffer.size() > bufferSize) {
+                buffer.removeFirst();
+            }
+            // Queued under the lock so the dispatcher sees events, and subscriber registrations, in sequence order
+            dispatcher.execute(() -> emitters.forEach(emitter -> send(emitter, buffered)));
+        }
+    }
+
+    /**
+     * Register a subscriber, first replaying any buffered events after {@code lastEventId}.
+     *
+     * @param lastEventId ID of the last event the client received, or null for new subscribers
+     * @return Emitter for the subscriber's response
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+
+        Long resumeAfter = parseEventId(lastEventId);
+        synchronized (buffer) {
+            // Replay covers events up to lastSequence. Registration is queued behind their dispatches, so
+            // the emitter only receives later events from the dispatcher and none is missed or sent twice.
+            if (resumeAfter != null) {
+                replay(emitter, resumeAfter);
+            }
+            dispatcher.execute(() -> emitters.add(emitter));
+        }
+        return emitter;
+    }
+
+    /**
+     * Send a comment line to every subscriber so idle connections are not closed by proxies.
+     */
+    @Scheduled(fixedDelayString = "${tasks.stream.heartbeat:15s}")
+    public void heartbeat() {
+        if (!emitters.isEmpty()) {
+            dispatcher.execute(() -> emitters.forEach(emitter -> {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    emitters.remove(emitter);
+                }
+            }));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    private void replay(SseEmitter emitter, long resumeAfter) {
+        long oldest = buffer.isEmpty() ? lastSequence + 1 : buffer.getFirst().getSequence();
+        if (resumeAfter < oldest - 1 || resumeAfter > lastSequence) {
+            // Events were dropped from the buffer, or the ID predates a restart
+            sendReset(emitter);
+            return;
+        }
+        List<BufferedEvent> missed = new ArrayList<>();
+        for (BufferedEvent buffered : buffer) {
+            if (buffered.getSequence() > resumeAfter) {
+                missed.add(buffered);
+            }
+        }
+        missed.forEach(buffered -> send(emitter, buffered));
+    }
+
+    private void send(SseEmitter emitter, BufferedEvent buffered) {
+        try {
+            emitter.send(SseEmitter.event()
+                             .id(Long.toString(buffered.getSequence()))
+                             .name(buffered.getEvent().getType().name())
+                             .data(buffered.getEvent(), MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping SSE subscriber: {}", e.getMessage());
+            emitters.remove(emitter);
+        }
+    }
+
+    private void sendReset(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().id(Long.toString(lastSequence)).name(RESET_EVENT).data(""));
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    @AllArgsConstructor
+    @Getter
+    private static final class BufferedEvent {
+
+        private final long sequence;
+        private final TaskChangeEvent event;
+    }
+}
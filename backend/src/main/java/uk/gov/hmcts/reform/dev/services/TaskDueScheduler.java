@@ -0,0 +1,179 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.models.scheduling.TaskScanLease;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeType;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskScanLeaseRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Publishes {@link TaskChangeType#DUE_SOON} and {@link TaskChangeType#OVERDUE} events for open tasks.
+ * Each task records when each event was sent, and the scans only read open tasks inside their window that
+ * have not had the event yet, so a run costs one index range scan over pending tasks. Tasks created,
+ * reopened or re-dated inside the window are picked up on the next run like any other.
+ *
+ * <p>Scans are coordinated through a lease row per scan. Each page of events is published in the
+ * same transaction that marks the tasks as sent, so the events reach the outbox exactly once. If another
+ * instance has taken over the lease, the page is rolled back.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.due.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class TaskDueScheduler {
+
+    static final String DUE_SOON_SCAN = "task-due-soon";
+    static final String OVERDUE_SCAN = "task-overdue";
+
+    private static final Set<TaskStatus> OPEN_STATUSES = EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+
+    private final TaskRepository taskRepository;
+    private final TaskScanLeaseRepository leaseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = UUID.randomUUID().toString();
+    private final int batchSize;
+    private final Duration dueSoonWindow;
+    private final Duration leaseDuration;
+    private final Counter dueSoon;
+    private final Counter overdue;
+
+    public TaskDueScheduler(TaskRepository taskRepository, TaskScanLeaseRepository leaseRepository,
+                            ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${tasks.due.batch-size:200}") int batchSize,
+                            @Value("${tasks.due.due-soon-window:1h}") Duration dueSoonWindow,
+                            @Value("${tasks.due.lease:2m}") Duration leaseDuration) {
+        this.taskRepository = taskRepository;
+        this.leaseRepository = leaseRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.dueSoonWindow = dueSoonWindow;
+        this.leaseDuration = leaseDuration;
+        this.dueSoon = Counter.builder("tasks.due.events")
+            .tag("type", TaskChangeType.DUE_SOON.name())
+            .description("Due-date events published by the scheduler")
+            .register(meterRegistry);
+        this.overdue = Counter.builder("tasks.due.events")
+            .tag("type", TaskChangeType.OVERDUE.name())
+            .description("Due-date events published by the scheduler")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Publish events for open tasks within the due-soon window or past their due date that have not
+     * had them yet.
+     */
+    @Scheduled(fixedDelayString = "${tasks.due.poll-interval:1m}")
+    public void scanDueTasks() {
+        LocalDateTime now = LocalDateTime.now();
+        // Tasks that are already overdue by the time the due-soon scan reaches them only get OVERDUE
+        scan(DUE_SOON_SCAN, TaskChangeType.DUE_SOON, now, dueSoon);
+        scan(OVERDUE_SCAN, TaskChangeType.OVERDUE, now, overdue);
+    }
+
+    /**
+     * Release held leases so another instance can continue straight away.
+     */
+    @PreDestroy
+    public void releaseLeases() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                leaseRepository.release(DUE_SOON_SCAN, owner, now);
+                leaseRepository.release(OVERDUE_SCAN, owner, now);
+            });
+        } catch (RuntimeException e) {
+            log.debug("Could not release due-date scan leases: {}", e.getMessage());
+        }
+    }
+
+    private void scan(String name, TaskChangeType type, LocalDateTime now, Counter counter) {
+        try {
+            if (!acquire(name, now)) {
+                return;
+            }
+            int count;
+            do {
+                count = publishPage(name, type, now, counter);
+            } while (count == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Due-date scan {} failed, pending tasks will be retried: {}", name, e.getMessage());
+        }
+    }
+
+    private boolean acquire(String name, LocalDateTime now) {
+        Integer acquired = transactionTemplate.execute(status -> {
+            if (!leaseRepository.existsById(name)) {
+                try {
+                    // Starts unowned and already lapsed, so the acquire below decides who gets it
+                    leaseRepository.saveAndFlush(new TaskScanLease(name, now.minusSeconds(1)));
+                } catch (DataIntegrityViolationException e) {
+                    status.setRollbackOnly();
+                    return 0;
+                }
+            }
+            return leaseRepository.acquire(name, owner, now, now.plus(leaseDuration));
+        });
+        return acquired != null && acquired == 1;
+    }
+
+    /**
+     * Publish events for the next page of pending tasks and mark them as sent.
+     *
+     * @return Number of tasks published, or -1 if the lease was lost
+     */
+    private int publishPage(String name, TaskChangeType type, LocalDateTime now, Counter counter) {
+        Integer count = transactionTemplate.execute(status -> {
+            PageRequest page = PageRequest.of(0, batchSize);
+            List<Task> due = type == TaskChangeType.DUE_SOON
+                ? taskRepository.lockDueSoonPending(OPEN_STATUSES, now, now.plus(dueSoonWindow), page)
+                : taskRepository.lockOverduePending(OPEN_STATUSES, now, page);
+            if (due.isEmpty()) {
+                return 0;
+            }
+            List<Long> ids = new ArrayList<>(due.size());
+            for (Task task : due) {
+                eventPublisher.publishEvent(TaskChangeEvent.of(type, task));
+                ids.add(task.getId());
+            }
+            LocalDateTime sentAt = LocalDateTime.now();
+            if (type == TaskChangeType.DUE_SOON) {
+                taskRepository.markDueSoonSent(ids, sentAt);
+            } else {
+                taskRepository.markOverdueSent(ids, sentAt);
+            }
+            if (leaseRepository.renew(name, owner, sentAt.plus(leaseDuration)) == 0) {
+                // Another instance took over; let it publish these tasks instead
+                status.setRollbackOnly();
+                return -1;
+            }
+            counter.increment(due.size());
+            return due.size();
+        });
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,231 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchItemResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchItemStatus;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskImportFormat;
+import uk.gov.hmcts.reform.dev.models.task.TaskImportResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskImportRowError;
+import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports task requests from an NDJSON or CSV upload. Rows are parsed one at a time from the request
+ * stream and written in chunks, each in its own transaction, so memory use does not depend on the
+ * size of the file. Rows that fail to parse or validate are reported by row number and skipped.
+ */
+@Service
+@Slf4j
+public class TaskImportService {
+
+    private final TaskService taskService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final long progressIntervalNanos;
+    private final Counter createdRows;
+    private final Counter failedRows;
+
+    public TaskImportService(TaskService taskService, EntityManager entityManager, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${tasks.import.chunk-size:500}") int chunkSize,
+                             @Value("${tasks.import.max-errors:1000}") int maxErrors,
+                             @Value("${tasks.import.progress-interval:10s}") Duration progressInterval) {
+        this.taskService = taskService;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        // Rows are read as trees first, so a bad value in one row cannot desynchronise the parser
+        this.ndjsonReader = objectMapper.readerFor(JsonNode.class);
+        CsvMapper csvMapper = CsvMapper.builder()
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+        this.csvReader = csvMapper.readerFor(JsonNode.class).with(CsvSchema.emptySchema().withHeader());
+        this.chunkSize = Math.max(1, Math.min(chunkSize, TaskService.MAX_BATCH_SIZE));
+        this.maxErrors = maxErrors;
+        this.progressIntervalNanos = progressInterval.toNanos();
+        this.createdRows = Counter.builder("tasks.import.rows")
+            .tag("outcome", "created")
+            .description("Rows written by the bulk task import")
+            .register(meterRegistry);
+        this.failedRows = Counter.builder("tasks.import.rows")
+            .tag("outcome", "failed")
+            .description("Rows rejected by the bulk task import")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Import every row of the input. Chunks that have been written stay committed even if a later
+     * chunk fails. If the input is malformed part way through, the rows before it are written and
+     * the rest of the input is ignored.
+     *
+     * @param input Upload body, read incrementally
+     * @param format Format of the upload
+     * @return Row counts and the errors for rejected rows
+     * @throws IOException if the input cannot be read
+     */
+    public TaskImportResult importTasks(InputStream input, TaskImportFormat format) throws IOException {
+        ImportReport report = new ImportReport(maxErrors);
+        List<TaskRequest> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkRows = new ArrayList<>(chunkSize);
+        boolean completed = true;
+
+        ObjectReader reader = format == TaskImportFormat.CSV ? csvReader : ndjsonReader;
+        try (MappingIterator<JsonNode> rows = reader.readValues(input)) {
+            while (completed && rows.hasNextValue()) {
+                JsonNode node = rows.nextValue();
+                long row = report.nextRow();
+                try {
+                    chunk.add(objectMapper.treeToValue(node, TaskRequest.class));
+                    chunkRows.add(row);
+                } catch (JsonMappingException e) {
+                    report.reject(row, Map.of(fieldOf(e), "Invalid value"));
+                    failedRows.increment();
+                }
+                if (chunk.size() == chunkSize) {
+                    completed = writeChunk(chunk, chunkRows, report);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // The parser cannot find the start of the next row reliably, so stop here
+            report.reject(report.getRows() + 1, Map.of("row", "Malformed input: " + e.getOriginalMessage()));
+            completed = false;
+        }
+        // Valid rows read before a malformed one are still written
+        if (!chunk.isEmpty()) {
+            completed = writeChunk(chunk, chunkRows, report) && completed;
+        }
+
+        TaskImportResult result = report.toResult(completed);
+        log.info("Task import finished rows={} created={} failed={} completed={} rowsPerSecond={}",
+                 result.getRows(), result.getCreated(), result.getFailed(), completed,
+                 Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    private boolean writeChunk(List<TaskRequest> chunk, List<Long> chunkRows, ImportReport report) {
+        try {
+            TaskBatchResult batch = taskService.createTasks(chunk);
+            for (TaskBatchItemResult item : batch.getItems()) {
+                if (item.getStatus() == TaskBatchItemStatus.CREATED) {
+                    report.created();
+                    createdRows.increment();
+                } else {
+                    report.reject(chunkRows.get(item.getIndex()), item.getErrors());
+                    failedRows.increment();
+                }
+            }
+            return true;
+        } catch (DataAccessException e) {
+            log.error("Task import stopped: chunk starting at row {} could not be written", chunkRows.get(0), e);
+            report.reject(chunkRows.get(0), Map.of(
+                "row", "Rows " + chunkRows.get(0) + "-" + chunkRows.get(chunkRows.size() - 1)
+                    + " could not be saved; import stopped"));
+            report.failed(chunk.size() - 1);
+            failedRows.increment(chunk.size());
+            return false;
+        } finally {
+            chunk.clear();
+            chunkRows.clear();
+            // Written tasks are not needed again; keep the persistence context from growing with the file
+            entityManager.clear();
+            report.logProgress(progressIntervalNanos);
+        }
+    }
+
+    private static String fieldOf(JsonMappingException e) {
+        List<JsonMappingException.Reference> path = e.getPath();
+        if (path.isEmpty() || path.get(path.size() - 1).getFieldName() == null) {
+            return "row";
+        }
+        return path.get(path.size() - 1).getFieldName();
+    }
+
+    private static final class ImportReport {
+
+        private final int maxErrors;
+        private final long startNanos = System.nanoTime();
+        private final List<TaskImportRowError> errors = new ArrayList<>();
+        private long lastProgressNanos = startNanos;
+        private long rows;
+        private long created;
+        private long failed;
+        private boolean errorsTruncated;
+
+        private ImportReport(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        long nextRow() {
+            return ++rows;
+        }
+
+        long getRows() {
+            return rows;
+        }
+
+        void created() {
+            created++;
+        }
+
+        void failed(long count) {
+            failed += count;
+        }
+
+        void reject(long row, Map<String, String> rowErrors) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new TaskImportRowError(row, rowErrors));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        void logProgress(long intervalNanos) {
+            long now = System.nanoTime();
+            if (now - lastProgressNanos >= intervalNanos) {
+                lastProgressNanos = now;
+                log.info("Task import progress rows={} created={} failed={} rowsPerSecond={}",
+                         rows, created, failed, Math.round(rowsPerSecond(now)));
+            }
+        }
+
+        TaskImportResult toResult(boolean completed) {
+            long now = System.nanoTime();
+            return new TaskImportResult(rows, created, failed, completed, List.copyOf(errors), errorsTruncated,
+                                        Duration.ofNanos(now - startNanos).toMillis(), rowsPerSecond(now));
+        }
+
+        private double rowsPerSecond(long now) {
+            long elapsed = now - startNanos;
+            return elapsed <= 0 ? 0 : rows * 1_000_000_000d / elapsed;
+        }
+    }
+}
@@ -1,45 +1,314 @@
 package uk.gov.hmcts.reform.dev.services;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.config.CacheConfig;
+import uk.gov.hmcts.reform.dev.exceptions.PreconditionFailedException;
+import uk.gov.hmcts.reform.dev.models.archive.ArchivedTask;
 import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchItemResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchItemStatus;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeType;
+import uk.gov.hmcts.reform.dev.models.task.TaskCursor;
+import uk.gov.hmcts.reform.dev.models.task.TaskField;
+import uk.gov.hmcts.reform.dev.models.task.TaskListVersion;
+import uk.gov.hmcts.reform.dev.models.task.TaskPage;
+import uk.gov.hmcts.reform.dev.models.task.TaskPageOrder;
 import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskSearchCriteria;
+import uk.gov.hmcts.reform.dev.models.task.TaskSearchResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskSortField;
+import uk.gov.hmcts.reform.dev.models.task.TaskStats;
 import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatusStats;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatusUpdate;
+import uk.gov.hmcts.reform.dev.models.task.TaskView;
+import uk.gov.hmcts.reform.dev.repositories.ArchivedTaskRepository;
 import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
 
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 public class TaskService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 1000;
+
     private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskTextIndex textIndex;
 
     @Autowired
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+                       EntityManager entityManager, Validator validator, ApplicationEventPublisher eventPublisher,
+                       TaskTextIndex textIndex) {
         this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.textIndex = textIndex;
     }
 
     /**
-     * Get all tasks.
+     * Get a summary of the task table that changes whenever any task changes.
      *
-     * @return List of all tasks
+     * @return The current list version
      */
-    public List<Task> getAllTasks() {
-        return taskRepository.findAll();
+    @Transactional(readOnly = true)
+    public TaskListVersion getTaskListVersion() {
+        return taskRepository.findListVersion();
+    }
+
+    /**
+     * Get task counts per status plus overdue and due-this-week counts, computed in the database.
+     * The snapshot may be served from a short-lived cache unless {@code fresh} is set.
+     *
+     * @param fresh Whether to bypass the cached snapshot
+     * @return Task statistics
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TASK_STATS_CACHE, key = "'all'", condition = "!#fresh")
+    public TaskStats getTaskStats(boolean fresh) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime weekEnd = now.toLocalDate().with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atStartOfDay();
+
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        long total = 0;
+        long overdue = 0;
+        long dueThisWeek = 0;
+        for (TaskStatusStats row : taskRepository.findStatusStats(now, weekEnd)) {
+            byStatus.put(row.getStatus(), row.getTotal());
+            total += row.getTotal();
+            if (row.getStatus() != TaskStatus.COMPLETED) {
+                overdue += row.getOverdue();
+                dueThisWeek += row.getDueThisWeek();
+            }
+        }
+        return new TaskStats(total, byStatus, overdue, dueThisWeek, now);
+    }
+
+    /**
+     * Get one keyset page of tasks.
+     *
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param size Requested page size, clamped to {@link #MAX_PAGE_SIZE}
+     * @param order Ordering of the listing
+     * @return The page and the cursor for the next one
+     * @throws IllegalArgumentException if the cursor is invalid for the ordering
+     */
+    @Transactional(readOnly = true)
+    public TaskPage<Task> getTaskPage(String cursor, int size, TaskPageOrder order) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // Fetch one extra row to learn whether another page exists without a count query
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor, order);
+
+        List<Task> tasks;
+        if (order == TaskPageOrder.DUE_DATE) {
+            tasks = after == null
+                ? taskRepository.findFirstPageByDueDate(limit)
+                : taskRepository.findPageAfterDueDate(after.getDueDate(), after.getId(), limit);
+        } else {
+            tasks = taskRepository.findPageAfterId(after == null ? 0L : after.getId(), limit);
+        }
+
+        boolean hasMore = tasks.size() > pageSize;
+        List<Task> items = hasMore ? tasks.subList(0, pageSize) : tasks;
+        String nextCursor = hasMore ? TaskCursor.after(items.get(pageSize - 1), order).encode() : null;
+        return new TaskPage<>(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Get one keyset page of tasks with only the requested fields loaded.
+     * The columns the cursor is built from are always selected.
+     *
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param size Requested page size, clamped to {@link #MAX_PAGE_SIZE}
+     * @param order Ordering of the listing
+     * @param fields Fields to select
+     * @return The page and the cursor for the next one
+     * @throws IllegalArgumentException if the cursor is invalid for the ordering
+     */
+    @Transactional(readOnly = true)
+    public TaskPage<TaskView> getTaskViewPage(String cursor, int size, TaskPageOrder order, Set<TaskField> fields) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor, order);
+
+        Set<TaskField> selected = EnumSet.of(TaskField.ID);
+        selected.addAll(fields);
+        if (order == TaskPageOrder.DUE_DATE) {
+            selected.add(TaskField.DUE_DATE);
+        }
+        List<TaskView> views = taskRepository.findViewPage(selected, after, order, pageSize + 1);
+
+        boolean hasMore = views.size() > pageSize;
+        List<TaskView> items = hasMore ? views.subList(0, pageSize) : views;
+        String nextCursor = hasMore ? TaskCursor.after(items.get(pageSize - 1), order).encode() : null;
+        return new TaskPage<>(items, nextCursor, hasMore);
     }
 
     /**
-     * Get a task by ID.
+     * Search tasks using server-side filters and sorting.
+     *
+     * @param criteria Filters to apply; unset fields are ignored
+     * @param sortField Field to sort by
+     * @param direction Sort direction
+     * @param page Zero-based page number
+     * @param size Requested page size, clamped to {@link #MAX_PAGE_SIZE}
+     * @return The matching page of tasks
+     * @throws IllegalArgumentException if a range is inverted or the page is negative
+     */
+    @Transactional(readOnly = true)
+    public TaskSearchResult<Task> searchTasks(TaskSearchCriteria criteria, TaskSortField sortField,
+                                              Sort.Direction direction, int page, int size) {
+        validateSearch(criteria, page);
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Task> tasks = taskRepository.search(criteria, sortField, direction, page * pageSize, pageSize + 1);
+
+        boolean hasMore = tasks.size() > pageSize;
+        return new TaskSearchResult<>(hasMore ? tasks.subList(0, pageSize) : tasks, page, pageSize, hasMore);
+    }
+
+    /**
+     * Search tasks like {@link #searchTasks}, loading only the requested fields.
+     *
+     * @param fields Fields to select
+     * @param criteria Filters to apply; unset fields are ignored
+     * @param sortField Field to sort by
+     * @param direction Sort direction
+     * @param page Zero-based page number
+     * @param size Requested page size, clamped to {@link #MAX_PAGE_SIZE}
+     * @return The matching page of partial tasks
+     * @throws IllegalArgumentException if a range is inverted or the page is negative
+     */
+    @Transactional(readOnly = true)
+    public TaskSearchResult<TaskView> searchTaskViews(Set<TaskField> fields, TaskSearchCriteria criteria,
+                                                      TaskSortField sortField, Sort.Direction direction,
+                                                      int page, int size) {
+        validateSearch(criteria, page);
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<TaskView> views = taskRepository.searchViews(fields, criteria, sortField, direction,
+                                                          page * pageSize, pageSize + 1);
+
+        boolean hasMore = views.size() > pageSize;
+        return new TaskSearchResult<>(hasMore ? views.subList(0, pageSize) : views, page, pageSize, hasMore);
+    }
+
+    /**
+     * Search task titles and descriptions for all terms of a free-text query, best matches first.
+     *
+     * @param query Search terms
+     * @param page Zero-based page number
+     * @param size Requested page size, clamped to {@link #MAX_PAGE_SIZE}
+     * @return The matching page of tasks
+     * @throws IllegalArgumentException if the query is blank or the page is negative
+     */
+    @Transactional(readOnly = true)
+    public TaskSearchResult<Task> searchTasksByText(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Query must not be blank");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Long> ids = textIndex.search(query, page * pageSize, pageSize + 1);
+        boolean hasMore = ids.size() > pageSize;
+        List<Long> pageIds = hasMore ? ids.subList(0, pageSize) : ids;
+
+        Map<Long, Task> tasksById = taskRepository.findAllById(pageIds).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+        // Keep rank order; a task deleted since the lookup is simply left out
+        List<Task> tasks = pageIds.stream().map(tasksById::get).filter(Objects::nonNull).toList();
+        return new TaskSearchResult<>(tasks, page, pageSize, hasMore);
+    }
+
+    private static void validateSearch(TaskSearchCriteria criteria, int page) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        checkRange("due", criteria.getDueFrom(), criteria.getDueTo());
+        checkRange("created", criteria.getCreatedFrom(), criteria.getCreatedTo());
+        checkRange("updated", criteria.getUpdatedFrom(), criteria.getUpdatedTo());
+    }
+
+    private static void checkRange(String name, LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException(name + "From must not be after " + name + "To");
+        }
+    }
+
+    /**
+     * Pass every task to the consumer in ID order, one row at a time.
+     * Each task is detached once consumed so memory use does not grow with the table.
+     *
+     * @param consumer Receives each task as it is read
+     */
+    @Transactional(readOnly = true)
+    public void streamAllTasks(Consumer<Task> consumer) {
+        try (Stream<Task> tasks = taskRepository.streamAllOrderById()) {
+            tasks.forEach(task -> {
+                consumer.accept(task);
+                entityManager.detach(task);
+            });
+        }
+    }
+
+    /**
+     * Get a task by ID, falling back to the archive for completed tasks moved out of the main table.
      *
      * @param id Task ID
      * @return The task if found
      * @throws EntityNotFoundException if task not found
      */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
     public Task getTaskById(Long id) {
         return taskRepository.findById(id)
+            .or(() -> archivedTaskRepository.findById(id).map(ArchivedTask::toTask))
             .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + id));
     }
 
@@ -49,13 +318,13 @@ public class TaskService {
      * @param taskRequest Task data
      * @return The created task
      */
+    @Transactional
     public Task createTask(TaskRequest taskRequest) {
-        log.info("Creating task with data: {}", taskRequest);
+        log.debug("Creating task with data: {}", taskRequest);
         try {
-            Task task = taskRequest.toTask();
-            log.info("Converted TaskRequest to Task: {}", task);
-            Task savedTask = taskRepository.save(task);
-            log.info("Task saved successfully: {}", savedTask);
+            Task savedTask = taskRepository.save(taskRequest.toTask());
+            log.debug("Task saved successfully: {}", savedTask);
+            eventPublisher.publishEvent(TaskChangeEvent.of(TaskChangeType.CREATED, savedTask));
             return savedTask;
         } catch (Exception e) {
             log.error("Error creating task: {}", e.getMessage(), e);
@@ -68,18 +337,34 @@ public class TaskService {
      *
      * @param id Task ID
      * @param taskRequest Updated task data
+     * @param expectedVersion Version the caller last saw, or null to update unconditionally
      * @return The updated task
      * @throws EntityNotFoundException if task not found
+     * @throws PreconditionFailedException if the task is no longer at the expected version
      */
-    public Task updateTask(Long id, TaskRequest taskRequest) {
-        Task existingTask = getTaskById(id);
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public Task updateTask(Long id, TaskRequest taskRequest, Long expectedVersion) {
+        // Archived tasks are read-only, so only the main table is checked
+        Task existingTask = taskRepository.findById(id)
+            .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(existingTask.getVersion())) {
+            throw versionMismatch(id, expectedVersion);
+        }
 
+        boolean redated = !existingTask.getDueDate().equals(taskRequest.getDueDate());
         existingTask.setTitle(taskRequest.getTitle());
         existingTask.setDescription(taskRequest.getDescription());
         existingTask.setStatus(taskRequest.getStatus());
         existingTask.setDueDate(taskRequest.getDueDate());
 
-        return taskRepository.save(existingTask);
+        Task savedTask = taskRepository.save(existingTask);
+        if (redated) {
+            // The due-date events already sent were for the old date
+            taskRepository.resetDueNotifications(id);
+        }
+        eventPublisher.publishEvent(TaskChangeEvent.of(TaskChangeType.UPDATED, savedTask));
+        return savedTask;
     }
 
     /**
@@ -87,13 +372,34 @@ public class TaskService {
      *
      * @param id Task ID
      * @param status New status
+     * @param expectedVersion Version the caller last saw, or null to update unconditionally
      * @return The updated task
      * @throws EntityNotFoundException if task not found
+     * @throws PreconditionFailedException if the task is no longer at the expected version
      */
-    public Task updateTaskStatus(Long id, TaskStatus status) {
-        Task existingTask = getTaskById(id);
-        existingTask.setStatus(status);
-        return taskRepository.save(existingTask);
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
+    public Task updateTaskStatus(Long id, TaskStatus status, Long expectedVersion) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = expectedVersion == null
+            ? taskRepository.updateStatus(id, status, now)
+            : taskRepository.updateStatusIfVersion(id, status, expectedVersion, now);
+        if (updated == 0) {
+            // Only the failure path pays for telling a stale version apart from a missing task
+            if (expectedVersion != null && taskRepository.existsById(id)) {
+                throw versionMismatch(id, expectedVersion);
+            }
+            throw new EntityNotFoundException("Task not found with ID: " + id);
+        }
+        Task task = getTaskById(id);
+        eventPublisher.publishEvent(TaskChangeEvent.of(TaskChangeType.STATUS_CHANGED, task));
+        return task;
+    }
+
+    private static PreconditionFailedException versionMismatch(Long id, Long expectedVersion) {
+        return new PreconditionFailedException(
+            "Task with ID " + id + " is no longer at version " + expectedVersion
+        );
     }
 
     /**
@@ -102,10 +408,135 @@ public class TaskService {
      * @param id Task ID
      * @throws EntityNotFoundException if task not found
      */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
     public void deleteTask(Long id) {
-        if (!taskRepository.existsById(id)) {
+        if (taskRepository.deleteTaskById(id) == 0) {
             throw new EntityNotFoundException("Task not found with ID: " + id);
         }
-        taskRepository.deleteById(id);
+        eventPublisher.publishEvent(TaskChangeEvent.deleted(id));
+    }
+
+    /**
+     * Create many tasks in one transaction. Invalid items are reported and skipped;
+     * valid items are inserted using JDBC batching.
+     *
+     * @param taskRequests Task data, in request order
+     * @return Per-item results in request order
+     * @throws IllegalArgumentException if the batch is empty or larger than {@link #MAX_BATCH_SIZE}
+     */
+    @Transactional
+    public TaskBatchResult createTasks(List<TaskRequest> taskRequests) {
+        checkBatchSize(taskRequests);
+        TaskBatchItemResult[] results = new TaskBatchItemResult[taskRequests.size()];
+        Map<Integer, Task> toSave = new LinkedHashMap<>();
+
+        for (int i = 0; i < taskRequests.size(); i++) {
+            TaskRequest taskRequest = taskRequests.get(i);
+            Map<String, String> errors = validate(taskRequest);
+            if (errors.isEmpty()) {
+                toSave.put(i, taskRequest.toTask());
+            } else {
+                results[i] = new TaskBatchItemResult(i, null, TaskBatchItemStatus.INVALID, errors);
+            }
+        }
+
+        taskRepository.saveAll(toSave.values());
+        toSave.forEach((index, task) -> {
+            results[index] = TaskBatchItemResult.of(index, task.getId(), TaskBatchItemStatus.CREATED);
+            eventPublisher.publishEvent(TaskChangeEvent.of(TaskChangeType.CREATED, task));
+        });
+        log.debug("Created {} of {} tasks in batch", toSave.size(), taskRequests.size());
+        return new TaskBatchResult(List.of(results));
+    }
+
+    /**
+     * Update the status of many tasks in one transaction.
+     *
+     * @param updates Task IDs and their new statuses, in request order
+     * @return Per-item results in request order
+     * @throws IllegalArgumentException if the batch is empty or larger than {@link #MAX_BATCH_SIZE}
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, allEntries = true)
+    public TaskBatchResult updateTaskStatuses(List<TaskStatusUpdate> updates) {
+        checkBatchSize(updates);
+        Set<Long> ids = updates.stream()
+            .map(TaskStatusUpdate::getId)
+            .filter(id -> id != null)
+            .collect(Collectors.toSet());
+        Map<Long, Task> tasks = taskRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskBatchItemResult> results = new ArrayList<>(updates.size());
+        for (int i = 0; i < updates.size(); i++) {
+            TaskStatusUpdate update = updates.get(i);
+            Map<String, String> errors = validate(update);
+            Task task = errors.isEmpty() ? tasks.get(update.getId()) : null;
+            if (!errors.isEmpty()) {
+                results.add(new TaskBatchItemResult(i, update.getId(), TaskBatchItemStatus.INVALID, errors));
+            } else if (task == null) {
+                results.add(TaskBatchItemResult.of(i, update.getId(), TaskBatchItemStatus.NOT_FOUND));
+            } else {
+                // Dirty checking flushes the changes as batched updates on commit
+                task.setStatus(update.getStatus());
+                results.add(TaskBatchItemResult.of(i, update.getId(), TaskBatchItemStatus.UPDATED));
+                eventPublisher.publishEvent(TaskChangeEvent.of(TaskChangeType.STATUS_CHANGED, task));
+            }
+        }
+        return new TaskBatchResult(results);
+    }
+
+    /**
+     * Delete many tasks in one transaction with a single delete statement.
+     *
+     * @param ids Task IDs, in request order
+     * @return Per-item results in request order
+     * @throws IllegalArgumentException if the batch is empty or larger than {@link #MAX_BATCH_SIZE}
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, allEntries = true)
+    public TaskBatchResult deleteTasks(List<Long> ids) {
+        checkBatchSize(ids);
+        Set<Long> requested = ids.stream().filter(id -> id != null).collect(Collectors.toSet());
+        Set<Long> existing = requested.isEmpty()
+            ? Collections.<Long>emptySet()
+            : new HashSet<>(taskRepository.findExistingIds(requested));
+        taskRepository.deleteAllByIdInBatch(existing);
+        existing.forEach(id -> eventPublisher.publishEvent(TaskChangeEvent.deleted(id)));
+
+        Set<Long> reported = new HashSet<>();
+        List<TaskBatchItemResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            // A repeated ID is reported as deleted only once
+            TaskBatchItemStatus status = existing.contains(id) && reported.add(id)
+                ? TaskBatchItemStatus.DELETED
+                : TaskBatchItemStatus.NOT_FOUND;
+            results.add(TaskBatchItemResult.of(i, id, status));
+        }
+        return new TaskBatchResult(results);
+    }
+
+    private static void checkBatchSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one item");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch cannot contain more than " + MAX_BATCH_SIZE + " items");
+        }
+    }
+
+    private Map<String, String> validate(Object item) {
+        if (item == null) {
+            return Map.of("item", "Item is required");
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> errors = new LinkedHashMap<>();
+        violations.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return errors;
     }
 }
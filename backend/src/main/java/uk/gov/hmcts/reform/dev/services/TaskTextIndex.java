@@ -0,0 +1,419 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.config.ReadWriteRoutingDataSource;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over task titles and descriptions. It is loaded from the database once the
+ * application is ready and then kept current from committed {@link TaskChangeEvent}s, so each write
+ * only re-indexes the task it touched. Title terms are weighted above description terms, and matches
+ * are ranked by TF-IDF.
+ *
+ * <p>The index is per instance, and change events only cover writes made through this instance. Writes made
+ * elsewhere are picked up by a periodic {@link #refresh()} of tasks updated since the previous one, and tasks
+ * deleted or archived elsewhere by a less frequent {@link #reconcile()} against the IDs in the table. Until
+ * the initial load finishes, searches only see tasks indexed so far.
+ */
+@Component
+@Slf4j
+public class TaskTextIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final Comparator<ScoredTask> BY_RANK = Comparator
+        .comparingDouble(ScoredTask::getScore)
+        .thenComparing(ScoredTask::getId, Comparator.reverseOrder());
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration refreshOverlap;
+    private final boolean loadOnStartup;
+    // Held for the whole of a load, refresh or reconcile so they never run at the same time
+    private final Object syncMonitor = new Object();
+    // Many concurrent searches, comparatively few writes
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedTask> documents = new HashMap<>();
+    // Deletes seen while a load or refresh is reading, so it does not bring those tasks back
+    private final Set<Long> deletedDuringLoad = new HashSet<>();
+    private boolean loading;
+    // Lower bound on updated_at for the next refresh; null until the initial load has finished
+    private volatile LocalDateTime refreshFrom;
+
+    public TaskTextIndex(TaskRepository taskRepository, EntityManager entityManager,
+                         PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                         @Value("${tasks.search.refresh-overlap:1m}") Duration refreshOverlap,
+                         @Value("${tasks.search.load-on-startup:true}") boolean loadOnStartup) {
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.refreshOverlap = refreshOverlap;
+        this.loadOnStartup = loadOnStartup;
+        Gauge.builder("tasks.search.index.documents", this, TaskTextIndex::size)
+            .description("Tasks held in the full-text search index")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Load the index once the application is ready, unless {@code tasks.search.load-on-startup} is off.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (loadOnStartup) {
+            load();
+        }
+    }
+
+    /**
+     * Load every task into the index, one row at a time.
+     */
+    public void load() {
+        synchronized (syncMonitor) {
+            long start = System.nanoTime();
+            LocalDateTime startedAt = LocalDateTime.now();
+            indexAll(taskRepository::streamAllOrderById);
+            refreshFrom = startedAt.minus(refreshOverlap);
+            log.info("Search index loaded documents={} terms={} durationMs={}", size(), termCount(),
+                     (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Re-index tasks updated since the previous refresh, including those written by other instances. Each
+     * refresh reads back {@code tasks.search.refresh-overlap} before the previous one started, to cover
+     * transactions that committed after it with an earlier {@code updated_at} and clock skew between
+     * instances; tasks already indexed at that version are re-indexed harmlessly.
+     */
+    @Scheduled(fixedDelayString = "${tasks.search.refresh-interval:30s}")
+    public void refresh() {
+        if (refreshFrom == null) {
+            return;
+        }
+        synchronized (syncMonitor) {
+            LocalDateTime startedAt = LocalDateTime.now();
+            LocalDateTime since = refreshFrom;
+            indexAll(() -> taskRepository.streamUpdatedSince(since));
+            refreshFrom = startedAt.minus(refreshOverlap);
+        }
+    }
+
+    /**
+     * Drop tasks that are no longer in the table, such as those deleted or archived by other instances.
+     * Walks the primary key in order against a sorted snapshot of the indexed IDs, so it reads IDs only.
+     */
+    @Scheduled(fixedDelayString = "${tasks.search.reconcile-interval:15m}",
+        initialDelayString = "${tasks.search.reconcile-interval:15m}")
+    public void reconcile() {
+        if (refreshFrom == null) {
+            return;
+        }
+        synchronized (syncMonitor) {
+            long[] indexed = indexedIds();
+            List<Long> missing = new ArrayList<>();
+            ReadWriteRoutingDataSource.pinToPrimary();
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<Long> ids = taskRepository.streamAllIds()) {
+                        Iterator<Long> existing = ids.iterator();
+                        int next = 0;
+                        while (existing.hasNext() && next < indexed.length) {
+                            long id = existing.next();
+                            while (next < indexed.length && indexed[next] < id) {
+                                missing.add(indexed[next++]);
+                            }
+                            if (next < indexed.length && indexed[next] == id) {
+                                next++;
+                            }
+                        }
+                        while (next < indexed.length) {
+                            missing.add(indexed[next++]);
+                        }
+                    }
+                });
+            } finally {
+                ReadWriteRoutingDataSource.unpin();
+            }
+            missing.forEach(this::remove);
+            if (!missing.isEmpty()) {
+                log.info("Search index dropped {} tasks no longer in the table", missing.size());
+            }
+        }
+    }
+
+    /**
+     * Apply a committed change to the index.
+     *
+     * @param event The committed change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChange(TaskChangeEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> index(event.getTask(), false);
+            // Archived tasks are only reachable by ID, so they leave the index with the hot table
+            case DELETED, ARCHIVED -> remove(event.getTaskId());
+            default -> {
+                // Status and due-date events do not change the indexed text
+            }
+        }
+    }
+
+    /**
+     * Find tasks containing every term of the query, best matches first.
+     *
+     * @param query Free text; split into terms the same way as indexed text
+     * @param offset Number of ranked matches to skip
+     * @param limit Maximum number of IDs to return
+     * @return Matching task IDs in rank order
+     */
+    public List<Long> search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int wanted = offset + limit;
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> termPostings = new ArrayList<>(terms.size());
+            double[] idf = new double[terms.size()];
+            for (String term : terms) {
+                Map<Long, Integer> termDocs = postings.get(term);
+                if (termDocs == null) {
+                    return List.of();
+                }
+                idf[termPostings.size()] = Math.log(1 + (double) documents.size() / termDocs.size());
+                termPostings.add(termDocs);
+            }
+
+            // Walk the rarest term's postings and probe the others, so cost follows the smallest list
+            int rarest = 0;
+            for (int i = 1; i < termPostings.size(); i++) {
+                if (termPostings.get(i).size() < termPostings.get(rarest).size()) {
+                    rarest = i;
+                }
+            }
+            PriorityQueue<ScoredTask> top = new PriorityQueue<>(Math.min(wanted, 1024) + 1, BY_RANK);
+            candidates:
+            for (Long id : termPostings.get(rarest).keySet()) {
+                double score = 0;
+                for (int i = 0; i < termPostings.size(); i++) {
+                    Integer weight = termPostings.get(i).get(id);
+                    if (weight == null) {
+                        continue candidates;
+                    }
+                    score += weight * idf[i];
+                }
+                top.add(new ScoredTask(id, score));
+                if (top.size() > wanted) {
+                    top.poll();
+                }
+            }
+
+            List<ScoredTask> ranked = new ArrayList<>(top);
+            ranked.sort(BY_RANK.reversed());
+            List<Long> ids = new ArrayList<>(Math.max(0, ranked.size() - offset));
+            for (int i = offset; i < ranked.size(); i++) {
+                ids.add(ranked.get(i).getId());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed tasks.
+     *
+     * @return Document count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void index(Task task, boolean fromLoad) {
+        Map<String, Integer> weights = new HashMap<>();
+        addTerms(weights, task.getTitle(), TITLE_WEIGHT);
+        addTerms(weights, task.getDescription(), DESCRIPTION_WEIGHT);
+        long version = task.getVersion() == null ? 0 : task.getVersion();
+
+        lock.writeLock().lock();
+        try {
+            if (fromLoad && deletedDuringLoad.contains(task.getId())) {
+                return;
+            }
+            IndexedTask existing = documents.get(task.getId());
+            if (existing != null) {
+                if (existing.getVersion() > version) {
+                    // A newer version was indexed from a change event while the load or refresh was running
+                    return;
+                }
+                unlink(task.getId(), existing);
+            }
+            IndexedTask indexed = new IndexedTask(version, weights.keySet().toArray(new String[0]));
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>())
+                .put(task.getId(), weight));
+            documents.put(task.getId(), indexed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                deletedDuringLoad.add(id);
+            }
+            IndexedTask existing = documents.remove(id);
+            if (existing != null) {
+                unlink(id, existing);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private void unlink(Long id, IndexedTask indexed) {
+        for (String term : indexed.getTerms()) {
+            Map<Long, Integer> termDocs = postings.get(term);
+            if (termDocs != null) {
+                termDocs.remove(id);
+                if (termDocs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void addTerms(Map<String, Integer> weights, String text, int weight) {
+        for (String token : tokenize(text)) {
+            weights.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private void indexAll(Supplier<Stream<Task>> query) {
+        setLoading(true);
+        // Read from the primary: rows a lagging replica has not caught up with yet would otherwise be missed
+        ReadWriteRoutingDataSource.pinToPrimary();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Task> tasks = query.get()) {
+                    tasks.forEach(task -> {
+                        index(task, true);
+                        entityManager.detach(task);
+                    });
+                }
+            });
+        } finally {
+            ReadWriteRoutingDataSource.unpin();
+            setLoading(false);
+        }
+    }
+
+    private long[] indexedIds() {
+        long[] ids;
+        lock.readLock().lock();
+        try {
+            ids = documents.keySet().stream().mapToLong(Long::longValue).toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private void setLoading(boolean value) {
+        lock.writeLock().lock();
+        try {
+            loading = value;
+            if (!value) {
+                deletedDuringLoad.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @AllArgsConstructor
+    @Getter
+    private static final class IndexedTask {
+
+        private final long version;
+        private final String[] terms;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    private static final class ScoredTask {
+
+        private final Long id;
+        private final double score;
+    }
+}
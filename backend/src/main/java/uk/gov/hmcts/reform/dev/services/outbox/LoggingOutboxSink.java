@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.services.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.models.outbox.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Default sink for local development that writes each relayed event to the application log. Events carry
+ * the full task payload, so they are logged at debug level only and stay out of production logs.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.outbox.sink", havingValue = "log", matchIfMissing = true)
+@Slf4j
+public class LoggingOutboxSink implements OutboxSink {
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        for (OutboxEvent event : events) {
+            log.debug("outbox id={} type={} taskId={} payload={}",
+                     event.getId(), event.getEventType(), event.getAggregateId(), event.getPayload());
+        }
+    }
+}
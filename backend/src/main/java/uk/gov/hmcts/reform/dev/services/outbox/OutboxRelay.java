@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.dev.services.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.models.outbox.OutboxEvent;
+import uk.gov.hmcts.reform.dev.repositories.OutboxEventRepository;
+
+import java.util.List;
+
+/**
+ * Drains the outbox to the configured {@link OutboxSink} in batches. Each batch is locked, delivered
+ * and deleted in one transaction, so a failure anywhere leaves it in place for the next run and
+ * several instances can relay concurrently without handing out the same rows.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter relayed;
+    private final Counter failures;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink sink,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                       @Value("${tasks.outbox.batch-size:200}") int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.relayed = Counter.builder("tasks.outbox.relayed")
+            .description("Outbox events delivered to the sink")
+            .register(meterRegistry);
+        this.failures = Counter.builder("tasks.outbox.relay.failures")
+            .description("Outbox batches that failed and will be retried")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Relay pending events until the outbox is empty or a batch fails.
+     */
+    @Scheduled(fixedDelayString = "${tasks.outbox.poll-interval:1s}")
+    public void relayPending() {
+        int count;
+        do {
+            count = relayBatch();
+        } while (count == batchSize);
+    }
+
+    private int relayBatch() {
+        try {
+            Integer count = transactionTemplate.execute(status -> {
+                List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    return 0;
+                }
+                sink.publish(batch);
+                outboxEventRepository.deleteAllInBatch(batch);
+                return batch.size();
+            });
+            int relayedCount = count == null ? 0 : count;
+            relayed.increment(relayedCount);
+            return relayedCount;
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox relay failed, batch will be retried: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.services.outbox;
+
+import uk.gov.hmcts.reform.dev.models.outbox.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination for relayed outbox events. Implementations must either deliver the whole batch or
+ * throw, in which case the batch stays in the outbox and is retried; consumers may therefore see an
+ * event more than once and should de-duplicate on its ID.
+ */
+public interface OutboxSink {
+
+    /**
+     * Deliver a batch of events, in insertion order.
+     *
+     * @param events Events to deliver
+     */
+    void publish(List<OutboxEvent> events);
+}
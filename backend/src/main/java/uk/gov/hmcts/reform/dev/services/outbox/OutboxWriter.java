@@ -0,0 +1,87 @@
+package uk.gov.hmcts.reform.dev.services.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.models.outbox.OutboxEvent;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.repositories.OutboxEventRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records task changes in the outbox table as part of the transaction that made them, so a change
+ * is relayed downstream if and only if it commits.
+ */
+@Component
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public OutboxWriter(OutboxEventRepository outboxEventRepository, EntityManager entityManager,
+                        ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Queue a change to be written to the outbox just before the surrounding transaction commits.
+     *
+     * @param event The task change
+     */
+    @EventListener
+    public void onTaskChange(TaskChangeEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            outboxEventRepository.save(toOutboxEvent(event));
+            return;
+        }
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.add(event);
+    }
+
+    private OutboxEvent toOutboxEvent(TaskChangeEvent event) {
+        try {
+            return new OutboxEvent(event.getTaskId(), event.getType().name(),
+                                   objectMapper.writeValueAsString(event), event.getOccurredAt());
+        } catch (JsonProcessingException e) {
+            // Fail the transaction rather than commit a change that would never be relayed
+            throw new IllegalStateException("Could not serialise task change for the outbox", e);
+        }
+    }
+
+    /**
+     * Collects the changes of one transaction so they are serialised once, after a single flush,
+     * and inserted together as a JDBC batch.
+     */
+    private final class PendingEvents implements TransactionSynchronization {
+
+        private final List<TaskChangeEvent> events = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Flush first so versions and update timestamps in the payloads are the committed values
+            entityManager.flush();
+            outboxEventRepository.saveAll(events.stream().map(OutboxWriter.this::toOutboxEvent).toList());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWriter.this);
+        }
+    }
+}
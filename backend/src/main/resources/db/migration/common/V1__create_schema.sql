@@ -0,0 +1,55 @@
+-- Baseline schema; mirrors the JPA mappings so the postgres profile can run with ddl-auto=none.
+-- Keep this file portable between PostgreSQL and H2 in PostgreSQL mode.
+
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tasks (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    title       VARCHAR(255) NOT NULL,
+    description VARCHAR(500),
+    status      VARCHAR(32)  NOT NULL,
+    due_date    TIMESTAMP    NOT NULL,
+    created_at  TIMESTAMP,
+    updated_at  TIMESTAMP,
+    version     BIGINT       DEFAULT 0 NOT NULL
+);
+
+-- Keyset pages ordered by due date, id
+CREATE INDEX idx_tasks_due_date_id ON tasks (due_date, id);
+-- Status filters, status stats and the due-date scheduler scans
+CREATE INDEX idx_tasks_status_due_date ON tasks (status, due_date);
+-- Sorting and list ETag versions
+CREATE INDEX idx_tasks_created_at ON tasks (created_at);
+CREATE INDEX idx_tasks_updated_at ON tasks (updated_at);
+-- Title sorting; PostgreSQL adds a pattern index for prefix filters in its vendor migrations
+CREATE INDEX idx_tasks_title ON tasks (title);
+
+CREATE SEQUENCE task_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE task_outbox (
+    id           BIGINT        NOT NULL PRIMARY KEY,
+    aggregate_id BIGINT        NOT NULL,
+    event_type   VARCHAR(32)   NOT NULL,
+    payload      VARCHAR(4000) NOT NULL,
+    created_at   TIMESTAMP     NOT NULL
+);
+
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(255) NOT NULL PRIMARY KEY,
+    request_hash    VARCHAR(64)  NOT NULL,
+    response_status INTEGER,
+    content_type    VARCHAR(255),
+    response_body   TEXT,
+    created_at      TIMESTAMP    NOT NULL,
+    expires_at      TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
+
+CREATE TABLE task_scan_leases (
+    name               VARCHAR(64)  NOT NULL PRIMARY KEY,
+    owner              VARCHAR(100),
+    lease_until        TIMESTAMP    NOT NULL,
+    watermark_due_date TIMESTAMP    NOT NULL,
+    watermark_id       BIGINT       NOT NULL
+);
@@ -0,0 +1,16 @@
+-- Completed tasks moved out of the hot tasks table by TaskArchiver; rows keep their original id and version.
+
+CREATE TABLE tasks_archive (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    title       VARCHAR(255) NOT NULL,
+    description VARCHAR(500),
+    status      VARCHAR(32)  NOT NULL,
+    due_date    TIMESTAMP    NOT NULL,
+    created_at  TIMESTAMP,
+    updated_at  TIMESTAMP,
+    version     BIGINT       NOT NULL,
+    archived_at TIMESTAMP    NOT NULL
+);
+
+-- Lets retention jobs export or purge archived rows by age
+CREATE INDEX idx_tasks_archive_archived_at ON tasks_archive (archived_at);
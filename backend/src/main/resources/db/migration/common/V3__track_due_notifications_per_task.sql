@@ -0,0 +1,19 @@
+-- TaskDueScheduler records per task when DUE_SOON and OVERDUE were sent instead of keeping a (due_date, id)
+-- watermark per scan, so tasks created, reopened or re-dated behind the watermark still get their events.
+
+ALTER TABLE tasks ADD COLUMN due_soon_sent_at TIMESTAMP;
+ALTER TABLE tasks ADD COLUMN overdue_sent_at TIMESTAMP;
+
+-- Tasks the watermark scans had already passed keep their events sent; on a fresh database there is no
+-- lease row, the subquery is null and nothing is marked
+UPDATE tasks SET due_soon_sent_at = CURRENT_TIMESTAMP
+ WHERE due_date <= (SELECT watermark_due_date FROM task_scan_leases WHERE name = 'task-due-soon');
+UPDATE tasks SET overdue_sent_at = CURRENT_TIMESTAMP
+ WHERE due_date <= (SELECT watermark_due_date FROM task_scan_leases WHERE name = 'task-overdue');
+
+ALTER TABLE task_scan_leases DROP COLUMN watermark_due_date;
+ALTER TABLE task_scan_leases DROP COLUMN watermark_id;
+
+-- Pending events lead with the sent-at column, so the scans skip rows that have already been notified
+CREATE INDEX idx_tasks_due_soon_pending ON tasks (due_soon_sent_at, status, due_date);
+CREATE INDEX idx_tasks_overdue_pending ON tasks (overdue_sent_at, status, due_date);
@@ -0,0 +1,9 @@
+-- Idempotency keys are scoped per client, so the stored key gains a client prefix. In-progress claims hold a
+-- lease that a retry can take over once it lapses, and Location and ETag are replayed with the response.
+-- Keys stored before this migration are unscoped; they no longer match and age out with the TTL.
+
+ALTER TABLE idempotency_keys ALTER COLUMN idempotency_key SET DATA TYPE VARCHAR(320);
+ALTER TABLE idempotency_keys ADD COLUMN location VARCHAR(2048);
+ALTER TABLE idempotency_keys ADD COLUMN etag VARCHAR(255);
+ALTER TABLE idempotency_keys ADD COLUMN lock_owner VARCHAR(36);
+ALTER TABLE idempotency_keys ADD COLUMN locked_until TIMESTAMP;
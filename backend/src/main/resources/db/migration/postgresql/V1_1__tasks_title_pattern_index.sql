@@ -0,0 +1,2 @@
+-- The btree index on title cannot serve LIKE 'prefix%' under a non-C collation; this one can.
+CREATE INDEX idx_tasks_title_pattern ON tasks (title varchar_pattern_ops);
@@ -1,32 +1,71 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import uk.gov.hmcts.reform.dev.exceptions.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.exceptions.PreconditionFailedException;
+import uk.gov.hmcts.reform.dev.exceptions.QueueFullException;
+import uk.gov.hmcts.reform.dev.models.task.AsyncOperation;
 import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchItemResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchItemStatus;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskField;
+import uk.gov.hmcts.reform.dev.models.task.TaskImportFormat;
+import uk.gov.hmcts.reform.dev.models.task.TaskImportResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskImportRowError;
+import uk.gov.hmcts.reform.dev.models.task.TaskListVersion;
+import uk.gov.hmcts.reform.dev.models.task.TaskPage;
+import uk.gov.hmcts.reform.dev.models.task.TaskPageOrder;
 import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskSearchResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskSortField;
+import uk.gov.hmcts.reform.dev.models.task.TaskStats;
 import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
 import uk.gov.hmcts.reform.dev.models.task.TaskStatusRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskView;
+import uk.gov.hmcts.reform.dev.services.AsyncTaskWriter;
+import uk.gov.hmcts.reform.dev.services.TaskImportService;
 import uk.gov.hmcts.reform.dev.services.TaskService;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -39,19 +78,24 @@ public class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
-    @InjectMocks
-    private TaskController taskController;
+    @Mock
+    private AsyncTaskWriter asyncTaskWriter;
+
+    @Mock
+    private TaskImportService taskImportService;
 
     private ObjectMapper objectMapper;
 
     @BeforeEach
     public void setup() {
+        objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules(); // For proper LocalDateTime serialization
+
+        TaskController taskController = new TaskController(taskService, asyncTaskWriter, taskImportService,
+                                                           objectMapper);
         mockMvc = MockMvcBuilders.standaloneSetup(taskController)
             .setControllerAdvice(new GlobalExceptionHandler())
             .build();
-
-        objectMapper = new ObjectMapper();
-        objectMapper.findAndRegisterModules(); // For proper LocalDateTime serialization
     }
 
     @Test
@@ -63,19 +107,408 @@ public class TaskControllerTest {
         task2.setId(2L);
         List<Task> tasks = Arrays.asList(task1, task2);
 
-        when(taskService.getAllTasks()).thenReturn(tasks);
+        when(taskService.getTaskListVersion()).thenReturn(new TaskListVersion(2L, 2L, LocalDateTime.now()));
+        when(taskService.getTaskPage(null, TaskService.MAX_PAGE_SIZE, TaskPageOrder.ID))
+            .thenReturn(new TaskPage<>(tasks, null, false));
 
         // Act & Assert
         mockMvc.perform(get("/tasks"))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(header().exists("ETag"))
+            .andExpect(header().doesNotExist("Last-Modified"))
             .andExpect(jsonPath("$", hasSize(2)))
             .andExpect(jsonPath("$[0].id", is(1)))
             .andExpect(jsonPath("$[0].title", is("Task 1")))
             .andExpect(jsonPath("$[1].id", is(2)))
+            .andExpect(jsonPath("$[1].title", is("Task 2")))
+            .andExpect(header().doesNotExist("Link"));
+    }
+
+    @Test
+    public void getAllTasks_WhenMoreThanOnePage_ShouldLinkToTheRest() throws Exception {
+        // Arrange
+        Task task1 = new Task("Task 1", "Description 1", TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        task1.setId(1L);
+        when(taskService.getTaskListVersion()).thenReturn(new TaskListVersion(501L, 501L, LocalDateTime.now()));
+        when(taskService.getTaskPage(null, TaskService.MAX_PAGE_SIZE, TaskPageOrder.ID))
+            .thenReturn(new TaskPage<>(List.of(task1), "NTAw", true));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(header().string("Link", "</tasks/page?order=ID&size=" + TaskService.MAX_PAGE_SIZE
+                + "&cursor=NTAw>; rel=\"next\""));
+    }
+
+    @Test
+    public void getAllTasks_WithMatchingETag_ShouldReturnNotModifiedWithoutLoadingTasks() throws Exception {
+        // Arrange
+        when(taskService.getTaskListVersion()).thenReturn(new TaskListVersion(2L, 2L, LocalDateTime.now()));
+        String eTag = mockMvc.perform(get("/tasks"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks").header("If-None-Match", eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+        verify(taskService, times(1)).getTaskPage(null, TaskService.MAX_PAGE_SIZE, TaskPageOrder.ID);
+    }
+
+    @Test
+    public void getAllTasks_AfterListChanges_ShouldReturnNewETag() throws Exception {
+        // Arrange
+        LocalDateTime updated = LocalDateTime.now();
+        when(taskService.getTaskListVersion())
+            .thenReturn(new TaskListVersion(2L, 2L, updated), new TaskListVersion(1L, 2L, updated));
+        String eTag = mockMvc.perform(get("/tasks"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks").header("If-None-Match", eTag))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    public void getAllTasks_AfterDelete_ShouldIgnoreIfModifiedSince() throws Exception {
+        // Arrange
+        LocalDateTime updated = LocalDateTime.now().minusHours(1);
+        // A delete lowers the count but leaves the latest update time where it was
+        when(taskService.getTaskListVersion()).thenReturn(new TaskListVersion(1L, 2L, updated));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks").header("If-Modified-Since", "Fri, 01 Jan 2100 00:00:00 GMT"))
+            .andExpect(status().isOk());
+        verify(taskService).getTaskPage(null, TaskService.MAX_PAGE_SIZE, TaskPageOrder.ID);
+    }
+
+    @Test
+    public void getTaskPage_ShouldReturnItemsAndNextCursor() throws Exception {
+        // Arrange
+        Task task1 = new Task("Task 1", "Description 1", TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        task1.setId(1L);
+        TaskPage<Task> page = new TaskPage<>(List.of(task1), "Mg", true);
+
+        when(taskService.getTaskPage("MQ", 1, TaskPageOrder.DUE_DATE)).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/page").param("cursor", "MQ").param("size", "1").param("order", "DUE_DATE"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].id", is(1)))
+            .andExpect(jsonPath("$.nextCursor", is("Mg")))
+            .andExpect(jsonPath("$.hasMore", is(true)));
+    }
+
+    @Test
+    public void getAllTasks_WithFields_ShouldReturnProjectionWithDistinctETag() throws Exception {
+        // Arrange
+        TaskView view = new TaskView();
+        view.setId(1L);
+        view.setStatus(TaskStatus.TODO);
+        TaskListVersion version = new TaskListVersion(1L, 1L, LocalDateTime.now());
+        when(taskService.getTaskListVersion()).thenReturn(version);
+        when(taskService.getTaskViewPage(null, TaskService.MAX_PAGE_SIZE, TaskPageOrder.ID,
+                                         EnumSet.of(TaskField.ID, TaskField.STATUS)))
+            .thenReturn(new TaskPage<>(List.of(view), null, false));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("fields", "status"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", not(TaskETags.forList(version))))
+            .andExpect(jsonPath("$[0].id", is(1)))
+            .andExpect(jsonPath("$[0].status", is("TODO")))
+            .andExpect(jsonPath("$[0].title").doesNotExist());
+        verify(taskService, never()).getTaskPage(any(), anyInt(), any());
+    }
+
+    @Test
+    public void getAllTasks_WithUnknownField_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("fields", "title,secret"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message", is("Unknown task field: secret")));
+    }
+
+    @Test
+    public void getTaskPage_WithFields_ShouldReturnProjectedPage() throws Exception {
+        // Arrange
+        TaskView view = new TaskView();
+        view.setId(1L);
+        view.setTitle("Task 1");
+        when(taskService.getTaskViewPage(null, TaskService.DEFAULT_PAGE_SIZE, TaskPageOrder.ID,
+                                         EnumSet.of(TaskField.ID, TaskField.TITLE)))
+            .thenReturn(new TaskPage<>(List.of(view), null, false));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/page").param("fields", "title"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].title", is("Task 1")))
+            .andExpect(jsonPath("$.items[0].description").doesNotExist());
+    }
+
+    @Test
+    public void getTaskPage_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(taskService.getTaskPage("bad", TaskService.DEFAULT_PAGE_SIZE, TaskPageOrder.ID))
+            .thenThrow(new IllegalArgumentException("Invalid cursor: bad"));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/page").param("cursor", "bad"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message", is("Invalid cursor: bad")));
+    }
+
+    @Test
+    public void getTaskPage_WithUnknownOrder_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks/page").param("order", "TITLE"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void searchTasks_ShouldReturnRankedPage() throws Exception {
+        // Arrange
+        Task task1 = new Task("Court bundle", "Description 1", TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        task1.setId(1L);
+        when(taskService.searchTasksByText("court bundle", 0, TaskService.DEFAULT_PAGE_SIZE))
+            .thenReturn(new TaskSearchResult<>(List.of(task1), 0, TaskService.DEFAULT_PAGE_SIZE, false));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/search").param("q", "court bundle"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].title", is("Court bundle")))
+            .andExpect(jsonPath("$.hasMore", is(false)));
+    }
+
+    @Test
+    public void searchTasks_WithoutQuery_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(taskService.searchTasksByText(null, 0, TaskService.DEFAULT_PAGE_SIZE))
+            .thenThrow(new IllegalArgumentException("Query must not be blank"));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/search"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void getTaskStats_ShouldReturnAggregates() throws Exception {
+        // Arrange
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        byStatus.put(TaskStatus.TODO, 3L);
+        byStatus.put(TaskStatus.IN_PROGRESS, 1L);
+        byStatus.put(TaskStatus.COMPLETED, 2L);
+        when(taskService.getTaskStats(false)).thenReturn(new TaskStats(6, byStatus, 2, 1, LocalDateTime.now()));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", is(6)))
+            .andExpect(jsonPath("$.byStatus.TODO", is(3)))
+            .andExpect(jsonPath("$.overdue", is(2)))
+            .andExpect(jsonPath("$.dueThisWeek", is(1)));
+    }
+
+    @Test
+    public void getTaskStats_WithFresh_ShouldBypassSnapshot() throws Exception {
+        // Arrange
+        when(taskService.getTaskStats(true))
+            .thenReturn(new TaskStats(0, new EnumMap<>(TaskStatus.class), 0, 0, LocalDateTime.now()));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/stats").param("fresh", "true"))
+            .andExpect(status().isOk());
+        verify(taskService).getTaskStats(true);
+    }
+
+    @Test
+    public void filterTasks_ShouldBindCriteriaAndReturnMatches() throws Exception {
+        // Arrange
+        Task task1 = new Task("Review bundle", "Description 1", TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        task1.setId(1L);
+
+        when(taskService.searchTasks(
+            argThat(criteria -> criteria.getStatus().equals(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS))
+                && LocalDateTime.of(2025, 1, 1, 9, 0).equals(criteria.getDueFrom())
+                && "Review".equals(criteria.getTitlePrefix())),
+            eq(TaskSortField.UPDATED_AT),
+            eq(Sort.Direction.DESC),
+            eq(2),
+            eq(25)
+        )).thenReturn(new TaskSearchResult<>(List.of(task1), 2, 25, false));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/filter")
+                .param("status", "TODO", "IN_PROGRESS")
+                .param("dueFrom", "2025-01-01T09:00")
+                .param("titlePrefix", "Review")
+                .param("sort", "UPDATED_AT")
+                .param("direction", "DESC")
+                .param("page", "2")
+                .param("size", "25"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].title", is("Review bundle")))
+            .andExpect(jsonPath("$.page", is(2)))
+            .andExpect(jsonPath("$.hasMore", is(false)));
+    }
+
+    @Test
+    public void filterTasks_WithInvalidStatus_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks/filter").param("status", "DONE"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void exportTasks_ShouldStreamTasksAsJsonArray() throws Exception {
+        // Arrange
+        Task task1 = new Task("Task 1", "Description 1", TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        task1.setId(1L);
+        Task task2 = new Task("Task 2", "Description 2", TaskStatus.IN_PROGRESS, LocalDateTime.now().plusDays(2));
+        task2.setId(2L);
+
+        doAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(0);
+            consumer.accept(task1);
+            consumer.accept(task2);
+            return null;
+        }).when(taskService).streamAllTasks(any(Consumer.class));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/tasks/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].id", is(1)))
             .andExpect(jsonPath("$[1].title", is("Task 2")));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void exportTasks_WithWildcardAccept_ShouldFallBackToJson() throws Exception {
+        // Arrange
+        Task task1 = new Task("Task 1", "Description 1", TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        task1.setId(1L);
+
+        doAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(0);
+            consumer.accept(task1);
+            return null;
+        }).when(taskService).streamAllTasks(any(Consumer.class));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/tasks/export").accept(MediaType.ALL))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id", is(1)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void exportTasks_WithNdjsonAccept_ShouldWriteOneTaskPerLine() throws Exception {
+        // Arrange
+        Task task1 = new Task("Task 1", "Description 1", TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        task1.setId(1L);
+        Task task2 = new Task("Task 2", "Description 2", TaskStatus.IN_PROGRESS, LocalDateTime.now().plusDays(2));
+        task2.setId(2L);
+
+        doAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(0);
+            consumer.accept(task1);
+            consumer.accept(task2);
+            return null;
+        }).when(taskService).streamAllTasks(any(Consumer.class));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/tasks/export").accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(1L);
+        assertThat(objectMapper.readTree(lines[1]).get("title").asText()).isEqualTo("Task 2");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void exportTasks_WithCborAccept_ShouldWriteBinaryArray() throws Exception {
+        // Arrange
+        Task task1 = new Task("Task 1", "Description 1", TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        task1.setId(1L);
+
+        doAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(0);
+            consumer.accept(task1);
+            return null;
+        }).when(taskService).streamAllTasks(any(Consumer.class));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/tasks/export").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Assert
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn().getResponse().getContentAsByteArray();
+        JsonNode tasks = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertThat(tasks.isArray()).isTrue();
+        assertThat(tasks).hasSize(1);
+        assertThat(tasks.get(0).get("title").asText()).isEqualTo("Task 1");
+    }
+
+    @Test
+    public void importTasks_WithCsv_ShouldPassStreamAndReturnReport() throws Exception {
+        // Arrange
+        TaskImportResult report = new TaskImportResult(
+            2, 1, 1, true, List.of(new TaskImportRowError(2, Map.of("title", "Title is required"))), false, 5, 400);
+        when(taskImportService.importTasks(any(InputStream.class), eq(TaskImportFormat.CSV))).thenReturn(report);
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks/import")
+                .contentType("text/csv")
+                .content("title,status,dueDate\nTask 1,TODO,2025-01-01T09:00\n,TODO,2025-01-01T09:00\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created", is(1)))
+            .andExpect(jsonPath("$.errors[0].row", is(2)))
+            .andExpect(jsonPath("$.errors[0].errors.title", is("Title is required")));
+    }
+
+    @Test
+    public void importTasks_WithNdjson_ShouldSelectNdjsonFormat() throws Exception {
+        // Arrange
+        when(taskImportService.importTasks(any(InputStream.class), eq(TaskImportFormat.NDJSON)))
+            .thenReturn(new TaskImportResult(0, 0, 0, true, List.of(), false, 0, 0));
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks/import").contentType(MediaType.APPLICATION_NDJSON).content(""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.completed", is(true)));
+    }
+
     @Test
     public void getTaskById_WithValidId_ShouldReturnTask() throws Exception {
         // Arrange
@@ -94,6 +527,39 @@ public class TaskControllerTest {
             .andExpect(jsonPath("$.status", is("TODO")));
     }
 
+    @Test
+    public void getTaskById_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        // Arrange
+        Task task = new Task("Task 1", "Description 1", TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        task.setId(1L);
+        task.setUpdatedAt(LocalDateTime.now());
+
+        when(taskService.getTaskById(1L)).thenReturn(task);
+        String eTag = mockMvc.perform(get("/tasks/1"))
+            .andExpect(header().exists("ETag"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/1").header("If-None-Match", eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", eTag));
+    }
+
+    @Test
+    public void getTaskById_WhenModifiedSinceLastFetch_ShouldReturnTask() throws Exception {
+        // Arrange
+        Task task = new Task("Task 1", "Description 1", TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        task.setId(1L);
+        task.setUpdatedAt(LocalDateTime.now());
+
+        when(taskService.getTaskById(1L)).thenReturn(task);
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/1").header("If-None-Match", "\"1-0\""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id", is(1)));
+    }
+
     @Test
     public void getTaskById_WithInvalidId_ShouldReturnNotFound() throws Exception {
         // Arrange
@@ -129,6 +595,8 @@ public class TaskControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(taskRequest)))
             .andExpect(status().isCreated())
+            .andExpect(header().string("Location", "/tasks/1"))
+            .andExpect(header().string("ETag", "\"1-0\""))
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
             .andExpect(jsonPath("$.id", is(1)))
             .andExpect(jsonPath("$.title", is("New Task")))
@@ -136,6 +604,89 @@ public class TaskControllerTest {
             .andExpect(jsonPath("$.status", is("TODO")));
     }
 
+    @Test
+    public void createTask_WithRespondAsync_ShouldReturnAcceptedWithOperationLink() throws Exception {
+        // Arrange
+        TaskRequest taskRequest = new TaskRequest("New Task", null, TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        when(asyncTaskWriter.isEnabled()).thenReturn(true);
+        when(asyncTaskWriter.submitCreate(any(TaskRequest.class)))
+            .thenReturn(new AsyncOperation("op-1", "CREATE", null));
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks")
+                .header("Prefer", "respond-async, wait=0")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "/tasks/operations/op-1"))
+            .andExpect(header().string("Preference-Applied", "respond-async"))
+            .andExpect(jsonPath("$.status", is("PENDING")));
+        verify(taskService, never()).createTask(any(TaskRequest.class));
+    }
+
+    @Test
+    public void createTask_WithRespondAsyncAndFullQueue_ShouldReturnTooManyRequests() throws Exception {
+        // Arrange
+        TaskRequest taskRequest = new TaskRequest("New Task", null, TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        when(asyncTaskWriter.isEnabled()).thenReturn(true);
+        when(asyncTaskWriter.submitCreate(any(TaskRequest.class)))
+            .thenThrow(new QueueFullException("Write queue is full, retry later", 2));
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "2"));
+    }
+
+    @Test
+    public void createTask_WithRespondAsyncWhenWriterDisabled_ShouldCreateSynchronously() throws Exception {
+        // Arrange
+        TaskRequest taskRequest = new TaskRequest("New Task", null, TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        Task createdTask = taskRequest.toTask();
+        createdTask.setId(1L);
+        when(asyncTaskWriter.isEnabled()).thenReturn(false);
+        when(taskService.createTask(any(TaskRequest.class))).thenReturn(createdTask);
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist("Preference-Applied"))
+            .andExpect(jsonPath("$.id", is(1)));
+        verify(asyncTaskWriter, never()).submitCreate(any(TaskRequest.class));
+    }
+
+    @Test
+    public void updateTaskStatus_WithRespondAsync_ShouldQueueUpdate() throws Exception {
+        // Arrange
+        when(asyncTaskWriter.isEnabled()).thenReturn(true);
+        when(asyncTaskWriter.submitStatusUpdate(1L, TaskStatus.COMPLETED, null))
+            .thenReturn(new AsyncOperation("op-2", "UPDATE_STATUS", 1L));
+
+        // Act & Assert
+        mockMvc.perform(patch("/tasks/1/status")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"COMPLETED\"}"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.taskId", is(1)));
+    }
+
+    @Test
+    public void getOperation_WithUnknownId_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        when(asyncTaskWriter.getOperation("missing")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/operations/missing"))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     public void updateTask_WithValidIdAndData_ShouldReturnUpdatedTask() throws Exception {
         // Arrange
@@ -154,7 +705,7 @@ public class TaskControllerTest {
         );
         updatedTask.setId(1L);
 
-        when(taskService.updateTask(eq(1L), any(TaskRequest.class))).thenReturn(updatedTask);
+        when(taskService.updateTask(eq(1L), any(TaskRequest.class), isNull())).thenReturn(updatedTask);
 
         // Act & Assert
         mockMvc.perform(put("/tasks/1")
@@ -178,7 +729,7 @@ public class TaskControllerTest {
             LocalDateTime.now().plusDays(2)
         );
 
-        when(taskService.updateTask(eq(999L), any(TaskRequest.class)))
+        when(taskService.updateTask(eq(999L), any(TaskRequest.class), isNull()))
             .thenThrow(new EntityNotFoundException("Task not found with ID: 999"));
 
         // Act & Assert
@@ -196,7 +747,7 @@ public class TaskControllerTest {
         Task updatedTask = new Task("Task 1", "Description 1", TaskStatus.COMPLETED, LocalDateTime.now().plusDays(1));
         updatedTask.setId(1L);
 
-        when(taskService.updateTaskStatus(eq(1L), eq(TaskStatus.COMPLETED))).thenReturn(updatedTask);
+        when(taskService.updateTaskStatus(eq(1L), eq(TaskStatus.COMPLETED), isNull())).thenReturn(updatedTask);
 
         // Act & Assert
         mockMvc.perform(patch("/tasks/1/status")
@@ -213,7 +764,7 @@ public class TaskControllerTest {
         // Arrange
         TaskStatusRequest statusRequest = new TaskStatusRequest(TaskStatus.COMPLETED);
 
-        when(taskService.updateTaskStatus(eq(999L), eq(TaskStatus.COMPLETED)))
+        when(taskService.updateTaskStatus(eq(999L), eq(TaskStatus.COMPLETED), isNull()))
             .thenThrow(new EntityNotFoundException("Task not found with ID: 999"));
 
         // Act & Assert
@@ -223,6 +774,69 @@ public class TaskControllerTest {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    public void updateTask_WithIfMatch_ShouldPassExpectedVersionAndReturnNewETag() throws Exception {
+        // Arrange
+        TaskRequest taskRequest =
+            new TaskRequest("Updated Task", null, TaskStatus.TODO, LocalDateTime.now().plusDays(2));
+        Task updatedTask = taskRequest.toTask();
+        updatedTask.setId(1L);
+        updatedTask.setVersion(4L);
+
+        when(taskService.updateTask(eq(1L), any(TaskRequest.class), eq(3L))).thenReturn(updatedTask);
+
+        // Act & Assert
+        mockMvc.perform(put("/tasks/1")
+                .header("If-Match", "\"1-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"1-4\""))
+            .andExpect(jsonPath("$.version", is(4)));
+    }
+
+    @Test
+    public void updateTask_WithIfMatchForAnotherTask_ShouldReturnPreconditionFailed() throws Exception {
+        // Arrange
+        TaskRequest taskRequest =
+            new TaskRequest("Updated Task", null, TaskStatus.TODO, LocalDateTime.now().plusDays(2));
+
+        // Act & Assert
+        mockMvc.perform(put("/tasks/1")
+                .header("If-Match", "\"2-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+            .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void updateTaskStatus_WithStaleVersion_ShouldReturnPreconditionFailed() throws Exception {
+        // Arrange
+        when(taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, 3L))
+            .thenThrow(new PreconditionFailedException("Task with ID 1 is no longer at version 3"));
+
+        // Act & Assert
+        mockMvc.perform(patch("/tasks/1/status")
+                .header("If-Match", "\"1-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TaskStatusRequest(TaskStatus.COMPLETED))))
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.error", is("Precondition Failed")));
+    }
+
+    @Test
+    public void updateTaskStatus_WithConcurrentUpdate_ShouldReturnConflict() throws Exception {
+        // Arrange
+        when(taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, null))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        // Act & Assert
+        mockMvc.perform(patch("/tasks/1/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TaskStatusRequest(TaskStatus.COMPLETED))))
+            .andExpect(status().isConflict());
+    }
+
     @Test
     public void deleteTask_WithValidId_ShouldReturnNoContent() throws Exception {
         // Act & Assert
@@ -240,4 +854,55 @@ public class TaskControllerTest {
         mockMvc.perform(delete("/tasks/999"))
             .andExpect(status().isNotFound());
     }
+
+    @Test
+    public void createTasks_ShouldReturnPerItemResults() throws Exception {
+        // Arrange
+        TaskRequest taskRequest = new TaskRequest("New Task", null, TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        TaskBatchResult result = new TaskBatchResult(List.of(
+            TaskBatchItemResult.of(0, 1L, TaskBatchItemStatus.CREATED),
+            new TaskBatchItemResult(1, null, TaskBatchItemStatus.INVALID, Map.of("title", "Title is required"))
+        ));
+
+        when(taskService.createTasks(anyList())).thenReturn(result);
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(taskRequest, new TaskRequest()))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.succeeded", is(1)))
+            .andExpect(jsonPath("$.failed", is(1)))
+            .andExpect(jsonPath("$.items[0].status", is("CREATED")))
+            .andExpect(jsonPath("$.items[1].errors.title", is("Title is required")));
+    }
+
+    @Test
+    public void updateTaskStatuses_WithEmptyBatch_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(taskService.updateTaskStatuses(anyList()))
+            .thenThrow(new IllegalArgumentException("Batch must contain at least one item"));
+
+        // Act & Assert
+        mockMvc.perform(patch("/tasks/status/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void deleteTasks_ShouldReturnPerItemResults() throws Exception {
+        // Arrange
+        when(taskService.deleteTasks(List.of(1L, 999L))).thenReturn(new TaskBatchResult(List.of(
+            TaskBatchItemResult.of(0, 1L, TaskBatchItemStatus.DELETED),
+            TaskBatchItemResult.of(1, 999L, TaskBatchItemStatus.NOT_FOUND)
+        )));
+
+        // Act & Assert
+        mockMvc.perform(delete("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1, 999]"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[1].status", is("NOT_FOUND")));
+    }
 }
@@ -0,0 +1,139 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeType;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.services.TaskChangeBroadcaster;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+public class TaskStreamControllerTest {
+
+    private MockMvc mockMvc;
+
+    private TaskChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    public void setup() {
+        broadcaster = new TaskChangeBroadcaster(2, Duration.ofMinutes(1));
+        mockMvc = MockMvcBuilders.standaloneSetup(new TaskStreamController(broadcaster)).build();
+    }
+
+    @Test
+    public void streamTaskChanges_ShouldPushCommittedChanges() throws Exception {
+        // Arrange
+        MvcResult result = mockMvc.perform(get("/tasks/stream"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Act
+        broadcaster.onTaskChange(TaskChangeEvent.of(TaskChangeType.CREATED, task(1L)));
+
+        // Assert
+        String body = awaitContent(result, "id:1");
+        assertThat(body).contains("event:CREATED").contains("\"taskId\":1");
+    }
+
+    @Test
+    public void streamTaskChanges_WithLastEventId_ShouldReplayMissedEvents() throws Exception {
+        // Arrange
+        broadcaster.onTaskChange(TaskChangeEvent.of(TaskChangeType.CREATED, task(1L)));
+        broadcaster.onTaskChange(TaskChangeEvent.of(TaskChangeType.STATUS_CHANGED, task(1L)));
+        broadcaster.onTaskChange(TaskChangeEvent.deleted(1L));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/tasks/stream").header("Last-Event-ID", "2"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Assert
+        String body = awaitContent(result, "id:3");
+        assertThat(body).contains("event:DELETED").doesNotContain("id:2");
+    }
+
+    @Test
+    public void streamTaskChanges_WithEvictedLastEventId_ShouldSendReset() throws Exception {
+        // Arrange
+        broadcaster.onTaskChange(TaskChangeEvent.of(TaskChangeType.CREATED, task(1L)));
+        broadcaster.onTaskChange(TaskChangeEvent.of(TaskChangeType.CREATED, task(2L)));
+        broadcaster.onTaskChange(TaskChangeEvent.of(TaskChangeType.CREATED, task(3L)));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/tasks/stream").header("Last-Event-ID", "0"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Assert
+        String body = awaitContent(result, "event:reset");
+        assertThat(body).doesNotContain("event:CREATED");
+    }
+
+    @Test
+    public void streamTaskChanges_ResumingWhilePublishing_ShouldDeliverEachEventOnceInOrder() throws Exception {
+        // Arrange
+        TaskChangeBroadcaster busyBroadcaster = new TaskChangeBroadcaster(10_000, Duration.ofMinutes(1));
+        MockMvc busyMockMvc = MockMvcBuilders.standaloneSetup(new TaskStreamController(busyBroadcaster)).build();
+        CountDownLatch halfway = new CountDownLatch(1);
+        Thread publisher = new Thread(() -> {
+            for (long id = 1; id <= 2000; id++) {
+                busyBroadcaster.onTaskChange(TaskChangeEvent.deleted(id));
+                if (id == 500) {
+                    halfway.countDown();
+                }
+            }
+        });
+
+        // Act
+        publisher.start();
+        assertThat(halfway.await(5, TimeUnit.SECONDS)).isTrue();
+        MvcResult result = busyMockMvc.perform(get("/tasks/stream").header("Last-Event-ID", "100"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        publisher.join();
+
+        // Assert
+        String body = awaitContent(result, "id:2000\n");
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = Pattern.compile("^id:(\\d+)$", Pattern.MULTILINE).matcher(body);
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        assertThat(ids).isEqualTo(LongStream.rangeClosed(101, 2000).boxed().toList());
+    }
+
+    private static Task task(Long id) {
+        Task task = new Task("Task " + id, null, TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        task.setId(id);
+        return task;
+    }
+
+    // Events are written by the broadcaster's dispatch thread, so wait for them to reach the response
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = result.getResponse().getContentAsString();
+        }
+        assertThat(body).contains(expected);
+        return body;
+    }
+}
@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CachedBodyHttpServletRequestTest {
+
+    @Test
+    public void setReadListener_ShouldDeliverWholeBodyThenSignalEnd() throws Exception {
+        // Arrange
+        MockHttpServletRequest original = new MockHttpServletRequest("POST", "/tasks");
+        original.setContent("{\"title\":\"Review\"}".getBytes(StandardCharsets.UTF_8));
+        CachedBodyHttpServletRequest request = new CachedBodyHttpServletRequest(original);
+        ServletInputStream input = request.getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> calls = new ArrayList<>();
+
+        // Act
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                calls.add("data");
+                byte[] buffer = new byte[8];
+                while (input.isReady() && !input.isFinished()) {
+                    int count = input.read(buffer);
+                    read.write(buffer, 0, count);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                calls.add("end");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                calls.add("error");
+            }
+        });
+
+        // Assert
+        assertThat(calls).containsExactly("data", "end");
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo("{\"title\":\"Review\"}");
+        assertThat(request.getBody()).isEqualTo(read.toByteArray());
+    }
+}
@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    public void setup() {
+        filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(10));
+    }
+
+    @Test
+    public void doFilter_ShouldReleasePermitWhenRequestReturns() throws Exception {
+        // Act & Assert
+        assertThat(perform(new MockHttpServletRequest("GET", "/tasks"), mock(FilterChain.class)).getStatus())
+            .isEqualTo(200);
+        assertThat(perform(new MockHttpServletRequest("GET", "/tasks"), mock(FilterChain.class)).getStatus())
+            .isEqualTo(200);
+    }
+
+    @Test
+    public void doFilter_WithAsyncResponse_ShouldHoldPermitUntilComplete() throws Exception {
+        // Arrange
+        MockHttpServletRequest export = new MockHttpServletRequest("GET", "/tasks/export");
+        export.setAsyncSupported(true);
+        perform(export, (req, res) -> req.startAsync());
+
+        // Act
+        int whileStreaming = perform(new MockHttpServletRequest("GET", "/tasks"), mock(FilterChain.class)).getStatus();
+        ((MockAsyncContext) export.getAsyncContext()).complete();
+        int afterComplete = perform(new MockHttpServletRequest("GET", "/tasks"), mock(FilterChain.class)).getStatus();
+
+        // Assert
+        assertThat(whileStreaming).isEqualTo(503);
+        assertThat(afterComplete).isEqualTo(200);
+    }
+
+    @Test
+    public void doFilter_ForChangeStream_ShouldNotTakePermit() throws Exception {
+        // Arrange
+        MockHttpServletRequest stream = new MockHttpServletRequest("GET", "/tasks/stream");
+        stream.setAsyncSupported(true);
+        perform(stream, (req, res) -> req.startAsync());
+
+        // Act & Assert
+        assertThat(perform(new MockHttpServletRequest("GET", "/tasks"), mock(FilterChain.class)).getStatus())
+            .isEqualTo(200);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
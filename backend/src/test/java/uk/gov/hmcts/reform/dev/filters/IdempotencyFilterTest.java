@@ -0,0 +1,184 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.reform.dev.config.RateLimitProperties;
+import uk.gov.hmcts.reform.dev.models.idempotency.IdempotencyRecord;
+import uk.gov.hmcts.reform.dev.models.idempotency.IdempotentResponse;
+import uk.gov.hmcts.reform.dev.services.IdempotencyService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IdempotencyFilterTest {
+
+    private static final String KEY = "key-1";
+
+    private IdempotencyService idempotencyService;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    public void setup() {
+        idempotencyService = mock(IdempotencyService.class);
+        filter = new IdempotencyFilter(idempotencyService, new ClientResolver(new RateLimitProperties()),
+                                       new ObjectMapper());
+        when(idempotencyService.claim(endsWith(":" + KEY), anyString(), anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    public void doFilter_WhenTooManyRequests_ShouldReleaseKeyInsteadOfStoring() throws Exception {
+        // Act
+        MockHttpServletResponse response = perform(429);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        verify(idempotencyService).release(endsWith(":" + KEY), anyString());
+        verify(idempotencyService, never()).complete(anyString(), anyString(), any());
+    }
+
+    @Test
+    public void doFilter_WhenServiceUnavailable_ShouldReleaseKeyInsteadOfStoring() throws Exception {
+        // Act
+        perform(503);
+
+        // Assert
+        verify(idempotencyService).release(endsWith(":" + KEY), anyString());
+        verify(idempotencyService, never()).complete(anyString(), anyString(), any());
+    }
+
+    @Test
+    public void doFilter_WhenClientError_ShouldStoreResponse() throws Exception {
+        // Act
+        perform(400);
+
+        // Assert
+        ArgumentCaptor<IdempotentResponse> stored = ArgumentCaptor.forClass(IdempotentResponse.class);
+        verify(idempotencyService).complete(endsWith(":" + KEY), anyString(), stored.capture());
+        assertThat(stored.getValue().getStatus()).isEqualTo(400);
+        assertThat(stored.getValue().getContentType()).isEqualTo("application/json");
+        assertThat(stored.getValue().getBody()).isEqualTo("{}");
+        verify(idempotencyService, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    public void doFilter_WhenCreated_ShouldStoreLocationAndEtag() throws Exception {
+        // Act
+        perform(201);
+
+        // Assert
+        ArgumentCaptor<IdempotentResponse> stored = ArgumentCaptor.forClass(IdempotentResponse.class);
+        verify(idempotencyService).complete(endsWith(":" + KEY), anyString(), stored.capture());
+        assertThat(stored.getValue().getLocation()).isEqualTo("/tasks/1");
+        assertThat(stored.getValue().getEtag()).isEqualTo("\"0\"");
+    }
+
+    @Test
+    public void doFilter_WhenSameKeyFromDifferentClients_ShouldScopeKeysPerClient() throws Exception {
+        // Act
+        perform(201, "10.0.0.1");
+        perform(201, "10.0.0.2");
+
+        // Assert
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyService, times(2)).claim(keys.capture(), anyString(), anyString());
+        assertThat(keys.getAllValues()).hasSize(2).doesNotHaveDuplicates().allMatch(key -> key.endsWith(":" + KEY));
+    }
+
+    @Test
+    public void doFilter_WhenKeyStillInProgress_ShouldAnswerConflictWithRetryAfter() throws Exception {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(idempotencyService.claim(endsWith(":" + KEY), anyString(), anyString())).thenAnswer(
+            invocation -> Optional.of(new IdempotencyRecord(KEY, invocation.getArgument(1), "other-request", now,
+                                                            now.plusHours(1), now.plusSeconds(30))));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(createRequest("127.0.0.1"), response, (req, res) -> {
+            throw new AssertionError("An in-progress key must not be processed again");
+        });
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(Long.parseLong(response.getHeader("Retry-After"))).isBetween(1L, 31L);
+    }
+
+    @Test
+    public void doFilter_WhenReplaying_ShouldRestoreLocationAndEtag() throws Exception {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(idempotencyService.claim(endsWith(":" + KEY), anyString(), anyString())).thenAnswer(invocation -> {
+            IdempotencyRecord completed = new IdempotencyRecord(KEY, invocation.getArgument(1), "first-request",
+                                                                now, now.plusHours(1), null);
+            ReflectionTestUtils.setField(completed, "responseStatus", 201);
+            ReflectionTestUtils.setField(completed, "location", "/tasks/1");
+            ReflectionTestUtils.setField(completed, "etag", "\"0\"");
+            ReflectionTestUtils.setField(completed, "responseBody", "{}");
+            return Optional.of(completed);
+        });
+        MockHttpServletResponse replay = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(createRequest("127.0.0.1"), replay, (req, res) -> {
+            throw new AssertionError("A completed key must be replayed, not processed");
+        });
+
+        // Assert
+        assertThat(replay.getStatus()).isEqualTo(201);
+        assertThat(replay.getHeader("Location")).isEqualTo("/tasks/1");
+        assertThat(replay.getHeader("ETag")).isEqualTo("\"0\"");
+        assertThat(replay.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(replay.getContentAsString()).isEqualTo("{}");
+    }
+
+    private MockHttpServletResponse perform(int status) throws Exception {
+        return perform(status, "127.0.0.1");
+    }
+
+    private MockHttpServletResponse perform(int status, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = createRequest(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            HttpServletResponse downstream = (HttpServletResponse) res;
+            downstream.setStatus(status);
+            downstream.setContentType("application/json");
+            if (status == 429) {
+                downstream.setHeader("Retry-After", "1");
+            }
+            if (status == 201) {
+                downstream.setHeader("Location", "/tasks/1");
+                downstream.setHeader("ETag", "\"0\"");
+            }
+            downstream.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        };
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest createRequest(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/tasks");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, KEY);
+        request.setContent("{}".getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,144 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uk.gov.hmcts.reform.dev.config.LoadSheddingProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class LoadSheddingFilterTest {
+
+    private AtomicLong now;
+    private LoadSheddingFilter filter;
+
+    @BeforeEach
+    public void setup() {
+        LoadSheddingProperties.Route listing = new LoadSheddingProperties.Route();
+        listing.setMethod("GET");
+        listing.setPattern("/tasks");
+
+        LoadSheddingProperties properties = new LoadSheddingProperties();
+        properties.setMaxInFlight(1);
+        properties.setLatencyThreshold(Duration.ofMillis(100));
+        properties.setProbeInterval(Duration.ofSeconds(1));
+        properties.setLowPriority(List.of(listing));
+
+        now = new AtomicLong();
+        filter = new LoadSheddingFilter(properties, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    public void isLowPriority_ShouldMatchConfiguredRoutesOnly() {
+        // Act & Assert
+        assertThat(filter.isLowPriority("GET", "/tasks")).isTrue();
+        assertThat(filter.isLowPriority("GET", "/tasks/1")).isFalse();
+        assertThat(filter.isLowPriority("POST", "/tasks")).isFalse();
+    }
+
+    @Test
+    public void doFilter_WhenInFlightLimitExceeded_ShouldShedLowPriorityOnly() throws Exception {
+        // Arrange
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[2];
+        FilterChain busyChain = (request, response) -> {
+            // While this request is in flight, a listing is shed and a single-task read is admitted
+            nested[0] = perform("GET", "/tasks", mock(FilterChain.class));
+            nested[1] = perform("GET", "/tasks/1", mock(FilterChain.class));
+        };
+
+        // Act
+        MockHttpServletResponse outer = perform("GET", "/tasks/2", busyChain);
+
+        // Assert
+        assertThat(outer.getStatus()).isEqualTo(200);
+        assertThat(nested[0].getStatus()).isEqualTo(503);
+        assertThat(nested[0].getHeader("Retry-After")).isEqualTo("1");
+        assertThat(nested[1].getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    public void doFilter_WhenLatencyHigh_ShouldShedExceptForProbes() throws Exception {
+        // Arrange: ten slow single-task reads push the moving average over the threshold
+        FilterChain slowChain = (request, response) -> now.addAndGet(Duration.ofSeconds(2).toNanos());
+        for (int i = 0; i < 10; i++) {
+            perform("GET", "/tasks/1", slowChain);
+        }
+
+        // Act
+        int probe = perform("GET", "/tasks", mock(FilterChain.class)).getStatus();
+        int shed = perform("GET", "/tasks", mock(FilterChain.class)).getStatus();
+        int highPriority = perform("GET", "/tasks/1", mock(FilterChain.class)).getStatus();
+
+        // Assert
+        assertThat(probe).isEqualTo(200);
+        assertThat(shed).isEqualTo(503);
+        assertThat(highPriority).isEqualTo(200);
+    }
+
+    @Test
+    public void doFilter_WithAsyncResponse_ShouldStayInFlightUntilComplete() throws Exception {
+        // Arrange
+        MockHttpServletRequest export = new MockHttpServletRequest("GET", "/tasks/export");
+        export.setAsyncSupported(true);
+        perform(export, (request, response) -> request.startAsync());
+
+        // Act
+        int whileStreaming = perform("GET", "/tasks", mock(FilterChain.class)).getStatus();
+        ((MockAsyncContext) export.getAsyncContext()).complete();
+        int afterComplete = perform("GET", "/tasks", mock(FilterChain.class)).getStatus();
+
+        // Assert
+        assertThat(whileStreaming).isEqualTo(503);
+        assertThat(afterComplete).isEqualTo(200);
+    }
+
+    @Test
+    public void doFilter_WithAsyncResponse_ShouldSampleLatencyWhenComplete() throws Exception {
+        // Arrange: ten exports return at once but stream for two seconds each
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletRequest export = new MockHttpServletRequest("GET", "/tasks/export");
+            export.setAsyncSupported(true);
+            perform(export, (request, response) -> request.startAsync());
+            now.addAndGet(Duration.ofSeconds(2).toNanos());
+            ((MockAsyncContext) export.getAsyncContext()).complete();
+        }
+
+        // Act
+        int probe = perform("GET", "/tasks", mock(FilterChain.class)).getStatus();
+        int shed = perform("GET", "/tasks", mock(FilterChain.class)).getStatus();
+
+        // Assert
+        assertThat(probe).isEqualTo(200);
+        assertThat(shed).isEqualTo(503);
+    }
+
+    @Test
+    public void doFilter_ForChangeStream_ShouldNotCountAsInFlight() throws Exception {
+        // Arrange
+        MockHttpServletRequest stream = new MockHttpServletRequest("GET", "/tasks/stream");
+        stream.setAsyncSupported(true);
+        perform(stream, (request, response) -> request.startAsync());
+
+        // Act & Assert
+        assertThat(perform("GET", "/tasks", mock(FilterChain.class)).getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse perform(String method, String path, FilterChain chain) throws Exception {
+        return perform(new MockHttpServletRequest(method, path), chain);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,128 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uk.gov.hmcts.reform.dev.config.RateLimitProperties;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class RateLimitFilterTest {
+
+    private static final String GATEWAY = "10.0.0.1";
+
+    private AtomicLong now;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    public void setup() {
+        RateLimitProperties.Rule export = new RateLimitProperties.Rule();
+        export.setMethod("GET");
+        export.setPattern("/tasks/export");
+        export.setCapacity(1);
+        export.setRefillPerSecond(0.1);
+
+        RateLimitProperties.Rule reads = new RateLimitProperties.Rule();
+        reads.setMethod("GET");
+        reads.setPattern("/tasks/**");
+        reads.setCapacity(2);
+        reads.setRefillPerSecond(1.0);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(export, reads));
+        properties.setTrustedGateways(List.of(GATEWAY));
+
+        now = new AtomicLong();
+        filter = new RateLimitFilter(properties, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    public void ruleFor_ShouldUseFirstMatchingRule() {
+        // Act & Assert
+        assertThat(filter.ruleFor("GET", "/tasks/export")).isZero();
+        assertThat(filter.ruleFor("GET", "/tasks/1")).isEqualTo(1);
+        assertThat(filter.ruleFor("POST", "/tasks")).isEqualTo(-1);
+    }
+
+    @Test
+    public void doFilter_OverCapacity_ShouldReturn429WithRetryAfter() throws Exception {
+        // Act
+        int first = perform("GET", "/tasks", "client-a").getStatus();
+        int second = perform("GET", "/tasks", "client-a").getStatus();
+        MockHttpServletResponse third = perform("GET", "/tasks", "client-a");
+
+        // Assert
+        assertThat(first).isEqualTo(200);
+        assertThat(second).isEqualTo(200);
+        assertThat(third.getStatus()).isEqualTo(429);
+        assertThat(third.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    @Test
+    public void doFilter_ShouldRefillOverTime() throws Exception {
+        // Arrange
+        perform("GET", "/tasks", "client-a");
+        perform("GET", "/tasks", "client-a");
+
+        // Act
+        now.addAndGet(1_000_000_000L);
+
+        // Assert
+        assertThat(perform("GET", "/tasks", "client-a").getStatus()).isEqualTo(200);
+        assertThat(perform("GET", "/tasks", "client-a").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    public void doFilter_ShouldKeepSeparateBucketsPerClientAndRule() throws Exception {
+        // Arrange
+        perform("GET", "/tasks", "client-a");
+        perform("GET", "/tasks", "client-a");
+
+        // Act & Assert
+        assertThat(perform("GET", "/tasks", "client-b").getStatus()).isEqualTo(200);
+        assertThat(perform("GET", "/tasks/export", "client-a").getStatus()).isEqualTo(200);
+        MockHttpServletResponse export = perform("GET", "/tasks/export", "client-a");
+        assertThat(export.getStatus()).isEqualTo(429);
+        assertThat(export.getHeader("Retry-After")).isEqualTo("10");
+    }
+
+    @Test
+    public void doFilter_WithoutMatchingRule_ShouldNotLimit() throws Exception {
+        // Act & Assert
+        for (int i = 0; i < 5; i++) {
+            assertThat(perform("POST", "/tasks", "client-a").getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    public void doFilter_FromUntrustedAddress_ShouldIgnoreClientHeader() throws Exception {
+        // Arrange
+        perform("GET", "/tasks", "client-a", "192.0.2.7");
+        perform("GET", "/tasks", "client-b", "192.0.2.7");
+
+        // Act & Assert
+        assertThat(perform("GET", "/tasks", "client-c", "192.0.2.7").getStatus()).isEqualTo(429);
+        assertThat(perform("GET", "/tasks", "client-c", "192.0.2.8").getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse perform(String method, String path, String apiKey) throws Exception {
+        return perform(method, path, apiKey, GATEWAY);
+    }
+
+    private MockHttpServletResponse perform(String method, String path, String apiKey, String remoteAddr)
+        throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-API-Key", apiKey);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, mock(FilterChain.class));
+        return response;
+    }
+}
@@ -0,0 +1,92 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uk.gov.hmcts.reform.dev.config.ReadWriteRoutingDataSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T09:00:00Z");
+
+    private ReadYourWritesFilter filter;
+    private AtomicBoolean pinned;
+    private FilterChain chain;
+
+    @BeforeEach
+    public void setup() {
+        filter = new ReadYourWritesFilter(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+        pinned = new AtomicBoolean();
+        chain = (request, response) -> pinned.set(ReadWriteRoutingDataSource.isPinnedToPrimary());
+    }
+
+    @Test
+    public void write_ShouldPinToPrimaryAndSetCookie() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/tasks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertThat(pinned).isTrue();
+        assertThat(ReadWriteRoutingDataSource.isPinnedToPrimary()).isFalse();
+        assertThat(response.getCookie(ReadYourWritesFilter.PRIMARY_UNTIL_COOKIE).getValue())
+            .isEqualTo(Long.toString(NOW.toEpochMilli() + 5000));
+    }
+
+    @Test
+    public void readWithinWindow_ShouldPinToPrimary() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        request.setCookies(primaryUntil(NOW.toEpochMilli() + 1000));
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertThat(pinned).isTrue();
+    }
+
+    @Test
+    public void readAfterWindow_ShouldUseReplica() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        request.setCookies(primaryUntil(NOW.toEpochMilli() - 1));
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertThat(pinned).isFalse();
+    }
+
+    @Test
+    public void readWithDeadlineBeyondWindow_ShouldBeIgnored() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        request.setCookies(primaryUntil(NOW.toEpochMilli() + Duration.ofDays(1).toMillis()));
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertThat(pinned).isFalse();
+    }
+
+    private static Cookie primaryUntil(long epochMillis) {
+        return new Cookie(ReadYourWritesFilter.PRIMARY_UNTIL_COOKIE, Long.toString(epochMillis));
+    }
+}
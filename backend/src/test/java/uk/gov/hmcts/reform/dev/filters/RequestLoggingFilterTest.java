@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.dev.filters;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uk.gov.hmcts.reform.dev.config.RequestLoggingProperties;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class RequestLoggingFilterTest {
+
+    private RequestLoggingFilter filter;
+
+    @BeforeEach
+    public void setup() {
+        RequestLoggingProperties.Rule reads = new RequestLoggingProperties.Rule();
+        reads.setMethod("GET");
+        reads.setPattern("/tasks/**");
+        reads.setSampleRate(0.01);
+
+        RequestLoggingProperties.Rule writes = new RequestLoggingProperties.Rule();
+        writes.setPattern("/tasks/**");
+        writes.setSampleRate(1.0);
+
+        RequestLoggingProperties properties = new RequestLoggingProperties();
+        properties.setDefaultSampleRate(0.5);
+        properties.setRules(List.of(reads, writes));
+
+        filter = new RequestLoggingFilter(properties);
+    }
+
+    @Test
+    public void sampleRateFor_ShouldUseFirstMatchingRule() {
+        // Act & Assert
+        assertThat(filter.sampleRateFor("GET", "/tasks/1")).isEqualTo(0.01);
+        assertThat(filter.sampleRateFor("get", "/tasks")).isEqualTo(0.01);
+        assertThat(filter.sampleRateFor("POST", "/tasks")).isEqualTo(1.0);
+        assertThat(filter.sampleRateFor("PATCH", "/tasks/1/status")).isEqualTo(1.0);
+    }
+
+    @Test
+    public void sampleRateFor_WithNoMatchingRule_ShouldUseDefault() {
+        // Act & Assert
+        assertThat(filter.sampleRateFor("GET", "/health")).isEqualTo(0.5);
+    }
+
+    @Test
+    public void doFilter_ShouldPassRequestDownTheChain() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        verify(chain).doFilter(request, response);
+    }
+}
@@ -0,0 +1,147 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import uk.gov.hmcts.reform.dev.exceptions.QueueFullException;
+import uk.gov.hmcts.reform.dev.models.task.AsyncOperation;
+import uk.gov.hmcts.reform.dev.models.task.AsyncOperationStatus;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncTaskWriterTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AsyncTaskWriter writer;
+
+    private TaskRequest taskRequest;
+
+    @BeforeEach
+    public void setup() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        writer = new AsyncTaskWriter(taskService, transactionManager, new SimpleMeterRegistry(),
+                                     true, 1, 10, Duration.ofSeconds(3), Duration.ofMinutes(5));
+        taskRequest = new TaskRequest("Queued task", null, TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        writer.stop();
+    }
+
+    @Test
+    public void submitCreate_ShouldApplyWriteAndRecordTaskId() throws Exception {
+        // Arrange
+        Task created = taskRequest.toTask();
+        created.setId(42L);
+        when(taskService.createTask(taskRequest)).thenReturn(created);
+        writer.start();
+
+        // Act
+        AsyncOperation operation = writer.submitCreate(taskRequest);
+
+        // Assert
+        awaitCompletion(operation);
+        assertThat(operation.getStatus()).isEqualTo(AsyncOperationStatus.SUCCEEDED);
+        assertThat(operation.getTaskId()).isEqualTo(42L);
+        assertThat(writer.getOperation(operation.getId())).containsSame(operation);
+    }
+
+    @Test
+    public void submitStatusUpdate_WhenWriteFails_ShouldRecordError() throws Exception {
+        // Arrange
+        when(taskService.updateTaskStatus(999L, TaskStatus.COMPLETED, null))
+            .thenThrow(new EntityNotFoundException("Task not found with ID: 999"));
+        writer.start();
+
+        // Act
+        AsyncOperation operation = writer.submitStatusUpdate(999L, TaskStatus.COMPLETED, null);
+
+        // Assert
+        awaitCompletion(operation);
+        assertThat(operation.getStatus()).isEqualTo(AsyncOperationStatus.FAILED);
+        assertThat(operation.getError()).contains("999");
+    }
+
+    @Test
+    public void submitCreate_WhenQueueIsFull_ShouldThrowQueueFullException() throws Exception {
+        // Arrange: hold the writer on the first write so the single queue slot fills up
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskService.createTask(taskRequest)).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return taskRequest.toTask();
+        });
+        writer.start();
+        writer.submitCreate(taskRequest);
+        assertThat(writing.await(2, TimeUnit.SECONDS)).isTrue();
+        writer.submitCreate(taskRequest);
+
+        // Act & Assert
+        try {
+            assertThatThrownBy(() -> writer.submitCreate(taskRequest))
+                .isInstanceOf(QueueFullException.class)
+                .extracting(e -> ((QueueFullException) e).getRetryAfterSeconds())
+                .isEqualTo(3L);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void submitCreate_AfterStop_ShouldThrowQueueFullException() throws Exception {
+        // Arrange
+        writer.start();
+        writer.stop();
+
+        // Act & Assert
+        assertThatThrownBy(() -> writer.submitCreate(taskRequest))
+            .isInstanceOf(QueueFullException.class);
+    }
+
+    @Test
+    public void submitCreate_WhenDisabled_ShouldReportDisabledAndRefuse() {
+        // Arrange
+        AsyncTaskWriter disabled = new AsyncTaskWriter(taskService, transactionManager, new SimpleMeterRegistry(),
+                                                       false, 1, 10, Duration.ofSeconds(3), Duration.ofMinutes(5));
+        disabled.start();
+
+        // Act & Assert
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThatThrownBy(() -> disabled.submitCreate(taskRequest))
+            .isInstanceOf(QueueFullException.class);
+    }
+
+    private static void awaitCompletion(AsyncOperation operation) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (operation.getStatus() == AsyncOperationStatus.PENDING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
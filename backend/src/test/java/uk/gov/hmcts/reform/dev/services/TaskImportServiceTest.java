@@ -0,0 +1,167 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchItemResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchItemStatus;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskImportFormat;
+import uk.gov.hmcts.reform.dev.models.task.TaskImportResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskImportRowError;
+import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskImportServiceTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private TaskImportService taskImportService;
+
+    private final List<TaskRequest> written = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        taskImportService = new TaskImportService(taskService, entityManager, objectMapper, new SimpleMeterRegistry(),
+                                                  2, 10, Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void importTasks_WithNdjson_ShouldWriteInChunksAndReportInvalidRows() throws Exception {
+        // Arrange
+        stubCreateTasks();
+        String ndjson = """
+            {"title":"Task 1","status":"TODO","dueDate":"2025-01-01T09:00"}
+            {"title":"","status":"TODO","dueDate":"2025-01-01T09:00"}
+            {"title":"Task 3","status":"SOMEDAY","dueDate":"2025-01-01T09:00"}
+            {"title":"Task 4","status":"COMPLETED","dueDate":"2025-01-02T09:00"}
+            """;
+
+        // Act
+        TaskImportResult result = taskImportService.importTasks(stream(ndjson), TaskImportFormat.NDJSON);
+
+        // Assert
+        assertThat(result.getRows()).isEqualTo(4);
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(result.getErrors())
+            .extracting(TaskImportRowError::getRow, TaskImportRowError::getErrors)
+            .containsExactlyInAnyOrder(tuple(2L, Map.of("title", "Title is required")),
+                                       tuple(3L, Map.of("status", "Invalid value")));
+        assertThat(written).extracting(TaskRequest::getTitle).containsExactly("Task 1", "", "Task 4");
+        verify(taskService, times(2)).createTasks(anyList());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    public void importTasks_WithCsv_ShouldMapHeaderColumns() throws Exception {
+        // Arrange
+        stubCreateTasks();
+        String csv = """
+            title,description,status,dueDate
+            Task 1,,TODO,2025-01-01T09:00
+            Task 2, Second ,IN_PROGRESS,2025-01-02T09:00
+            """;
+
+        // Act
+        TaskImportResult result = taskImportService.importTasks(stream(csv), TaskImportFormat.CSV);
+
+        // Assert
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(written.get(0).getDescription()).isNull();
+        assertThat(written.get(1).getDescription()).isEqualTo("Second");
+        assertThat(written.get(1).getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(written.get(1).getDueDate()).isEqualTo(LocalDateTime.of(2025, 1, 2, 9, 0));
+    }
+
+    @Test
+    public void importTasks_WithMalformedLine_ShouldKeepEarlierRowsAndStop() throws Exception {
+        // Arrange
+        stubCreateTasks();
+        String ndjson = """
+            {"title":"Task 1","status":"TODO","dueDate":"2025-01-01T09:00"}
+            {"title":"Task 2",
+            """;
+
+        // Act
+        TaskImportResult result = taskImportService.importTasks(stream(ndjson), TaskImportFormat.NDJSON);
+
+        // Assert
+        assertThat(result.isCompleted()).isFalse();
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(TaskImportRowError::getRow).containsExactly(2L);
+        assertThat(written).extracting(TaskRequest::getTitle).containsExactly("Task 1");
+    }
+
+    @Test
+    public void importTasks_WhenChunkCannotBeSaved_ShouldStopAndReportRows() throws Exception {
+        // Arrange
+        when(taskService.createTasks(anyList())).thenThrow(new DataAccessResourceFailureException("down"));
+        String ndjson = """
+            {"title":"Task 1","status":"TODO","dueDate":"2025-01-01T09:00"}
+            {"title":"Task 2","status":"TODO","dueDate":"2025-01-01T09:00"}
+            {"title":"Task 3","status":"TODO","dueDate":"2025-01-01T09:00"}
+            """;
+
+        // Act
+        TaskImportResult result = taskImportService.importTasks(stream(ndjson), TaskImportFormat.NDJSON);
+
+        // Assert
+        assertThat(result.isCompleted()).isFalse();
+        assertThat(result.getRows()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getErrors().get(0).getErrors().get("row")).contains("Rows 1-2");
+        verify(taskService, times(1)).createTasks(anyList());
+    }
+
+    private void stubCreateTasks() {
+        when(taskService.createTasks(anyList())).thenAnswer(invocation -> {
+            List<TaskRequest> requests = invocation.getArgument(0);
+            List<TaskBatchItemResult> items = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++) {
+                TaskRequest request = requests.get(i);
+                written.add(request);
+                items.add(request.getTitle().isBlank()
+                    ? new TaskBatchItemResult(i, null, TaskBatchItemStatus.INVALID,
+                                              Map.of("title", "Title is required"))
+                    : TaskBatchItemResult.of(i, (long) written.size(), TaskBatchItemStatus.CREATED));
+            }
+            return new TaskBatchResult(items);
+        });
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,25 +1,58 @@
 package uk.gov.hmcts.reform.dev.services;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import uk.gov.hmcts.reform.dev.exceptions.PreconditionFailedException;
+import uk.gov.hmcts.reform.dev.models.archive.ArchivedTask;
 import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchItemResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchItemStatus;
+import uk.gov.hmcts.reform.dev.models.task.TaskBatchResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeType;
+import uk.gov.hmcts.reform.dev.models.task.TaskCursor;
+import uk.gov.hmcts.reform.dev.models.task.TaskField;
+import uk.gov.hmcts.reform.dev.models.task.TaskPage;
+import uk.gov.hmcts.reform.dev.models.task.TaskPageOrder;
+import uk.gov.hmcts.reform.dev.models.task.TaskSearchCriteria;
+import uk.gov.hmcts.reform.dev.models.task.TaskSearchResult;
+import uk.gov.hmcts.reform.dev.models.task.TaskSortField;
 import uk.gov.hmcts.reform.dev.models.task.TaskRequest;
+import uk.gov.hmcts.reform.dev.models.task.TaskStats;
 import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatusStats;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatusUpdate;
+import uk.gov.hmcts.reform.dev.models.task.TaskView;
+import uk.gov.hmcts.reform.dev.repositories.ArchivedTaskRepository;
 import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,7 +62,18 @@ public class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
-    @InjectMocks
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskTextIndex textIndex;
+
     private TaskService taskService;
 
     private Task task1;
@@ -38,6 +82,15 @@ public class TaskServiceTest {
 
     @BeforeEach
     public void setup() {
+        taskService = new TaskService(
+            taskRepository,
+            archivedTaskRepository,
+            entityManager,
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            eventPublisher,
+            textIndex
+        );
+
         // Create test data
         task1 = new Task("Task 1", "Description 1", TaskStatus.TODO, LocalDateTime.now().plusDays(1));
         task1.setId(1L);
@@ -54,16 +107,168 @@ public class TaskServiceTest {
     }
 
     @Test
-    public void getAllTasks_ShouldReturnAllTasks() {
+    public void getTaskStats_ShouldFillMissingStatusesAndExcludeCompletedFromDueCounts() {
+        // Arrange
+        when(taskRepository.findStatusStats(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(List.of(
+            new TaskStatusStats(TaskStatus.TODO, 4L, 1L, 2L),
+            new TaskStatusStats(TaskStatus.COMPLETED, 3L, 3L, 1L)
+        ));
+
+        // Act
+        TaskStats stats = taskService.getTaskStats(true);
+
+        // Assert
+        assertThat(stats.getTotal()).isEqualTo(7);
+        assertThat(stats.getByStatus()).containsEntry(TaskStatus.TODO, 4L)
+            .containsEntry(TaskStatus.IN_PROGRESS, 0L)
+            .containsEntry(TaskStatus.COMPLETED, 3L);
+        assertThat(stats.getOverdue()).isEqualTo(1);
+        assertThat(stats.getDueThisWeek()).isEqualTo(2);
+    }
+
+    @Test
+    public void getTaskPage_WithMoreRows_ShouldTrimPageAndReturnCursor() {
+        // Arrange
+        when(taskRepository.findPageAfterId(0L, PageRequest.of(0, 2))).thenReturn(Arrays.asList(task1, task2));
+
+        // Act
+        TaskPage<Task> page = taskService.getTaskPage(null, 1, TaskPageOrder.ID);
+
+        // Assert
+        assertThat(page.getItems()).containsExactly(task1);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(TaskCursor.decode(page.getNextCursor(), TaskPageOrder.ID).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    public void getTaskPage_WithDueDateCursor_ShouldSeekPastCursor() {
+        // Arrange
+        String cursor = TaskCursor.after(task1, TaskPageOrder.DUE_DATE).encode();
+        when(taskRepository.findPageAfterDueDate(task1.getDueDate(), 1L, PageRequest.of(0, 11)))
+            .thenReturn(List.of(task2));
+
+        // Act
+        TaskPage<Task> page = taskService.getTaskPage(cursor, 10, TaskPageOrder.DUE_DATE);
+
+        // Assert
+        assertThat(page.getItems()).containsExactly(task2);
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void getTaskPage_ShouldClampPageSize() {
+        // Arrange
+        when(taskRepository.findPageAfterId(0L, PageRequest.of(0, TaskService.MAX_PAGE_SIZE + 1)))
+            .thenReturn(List.of());
+
+        // Act
+        TaskPage<Task> page = taskService.getTaskPage(null, 100_000, TaskPageOrder.ID);
+
+        // Assert
+        assertThat(page.getItems()).isEmpty();
+    }
+
+    @Test
+    public void getTaskPage_WithCursorForOtherOrder_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        String cursor = TaskCursor.after(task1, TaskPageOrder.ID).encode();
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getTaskPage(cursor, 10, TaskPageOrder.DUE_DATE))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void getTaskViewPage_ByDueDate_ShouldSelectCursorColumnsAndReturnCursor() {
+        // Arrange
+        TaskView first = new TaskView();
+        first.setId(1L);
+        first.setDueDate(task1.getDueDate());
+        TaskView second = new TaskView();
+        second.setId(2L);
+        when(taskRepository.findViewPage(EnumSet.of(TaskField.ID, TaskField.TITLE, TaskField.DUE_DATE), null,
+                                         TaskPageOrder.DUE_DATE, 2))
+            .thenReturn(List.of(first, second));
+
+        // Act
+        TaskPage<TaskView> page = taskService.getTaskViewPage(null, 1, TaskPageOrder.DUE_DATE,
+                                                              EnumSet.of(TaskField.ID, TaskField.TITLE));
+
+        // Assert
+        assertThat(page.getItems()).containsExactly(first);
+        assertThat(page.isHasMore()).isTrue();
+        TaskCursor next = TaskCursor.decode(page.getNextCursor(), TaskPageOrder.DUE_DATE);
+        assertThat(next.getId()).isEqualTo(1L);
+        assertThat(next.getDueDate()).isEqualTo(task1.getDueDate());
+    }
+
+    @Test
+    public void searchTasks_ShouldTranslatePageToOffsetAndDetectMore() {
+        // Arrange
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setStatus(List.of(TaskStatus.TODO));
+        when(taskRepository.search(criteria, TaskSortField.DUE_DATE, Sort.Direction.ASC, 1, 2))
+            .thenReturn(Arrays.asList(task1, task2));
+
+        // Act
+        TaskSearchResult<Task> result =
+            taskService.searchTasks(criteria, TaskSortField.DUE_DATE, Sort.Direction.ASC, 1, 1);
+
+        // Assert
+        assertThat(result.getItems()).containsExactly(task1);
+        assertThat(result.getPage()).isEqualTo(1);
+        assertThat(result.isHasMore()).isTrue();
+    }
+
+    @Test
+    public void searchTasks_WithInvertedRange_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setDueFrom(LocalDateTime.now().plusDays(2));
+        criteria.setDueTo(LocalDateTime.now());
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.searchTasks(criteria, TaskSortField.ID, Sort.Direction.ASC, 0, 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("dueFrom");
+    }
+
+    @Test
+    public void searchTasksByText_ShouldKeepIndexRankOrderAndDetectMore() {
+        // Arrange
+        when(textIndex.search("bundle", 0, 3)).thenReturn(List.of(2L, 1L, 3L));
+        when(taskRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(task1, task2));
+
+        // Act
+        TaskSearchResult<Task> result = taskService.searchTasksByText("bundle", 0, 2);
+
+        // Assert
+        assertThat(result.getItems()).containsExactly(task2, task1);
+        assertThat(result.isHasMore()).isTrue();
+    }
+
+    @Test
+    public void searchTasksByText_WithBlankQuery_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.searchTasksByText(" ", 0, 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Query must not be blank");
+    }
+
+    @Test
+    public void streamAllTasks_ShouldPassEachTaskAndDetachIt() {
         // Arrange
-        List<Task> expectedTasks = Arrays.asList(task1, task2);
-        when(taskRepository.findAll()).thenReturn(expectedTasks);
+        when(taskRepository.streamAllOrderById()).thenReturn(Stream.of(task1, task2));
+        List<Task> received = new ArrayList<>();
 
         // Act
-        List<Task> actualTasks = taskService.getAllTasks();
+        taskService.streamAllTasks(received::add);
 
         // Assert
-        assertThat(actualTasks).isEqualTo(expectedTasks);
+        assertThat(received).containsExactly(task1, task2);
+        verify(entityManager).detach(task1);
+        verify(entityManager).detach(task2);
     }
 
     @Test
@@ -78,6 +283,21 @@ public class TaskServiceTest {
         assertThat(result).isEqualTo(task1);
     }
 
+    @Test
+    public void getTaskById_WithArchivedTask_ShouldFallBackToArchive() {
+        // Arrange
+        ArchivedTask archived = mock(ArchivedTask.class);
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(archivedTaskRepository.findById(1L)).thenReturn(Optional.of(archived));
+        when(archived.toTask()).thenReturn(task1);
+
+        // Act
+        Task result = taskService.getTaskById(1L);
+
+        // Assert
+        assertThat(result).isEqualTo(task1);
+    }
+
     @Test
     public void getTaskById_WithInvalidId_ShouldThrowEntityNotFoundException() {
         // Arrange
@@ -109,6 +329,8 @@ public class TaskServiceTest {
         // Assert
         assertThat(result).isEqualTo(savedTask);
         verify(taskRepository).save(any(Task.class));
+        verify(eventPublisher).publishEvent(argThat((TaskChangeEvent event) ->
+            event.getType() == TaskChangeType.CREATED && event.getTask() == savedTask));
     }
 
     @Test
@@ -134,13 +356,14 @@ public class TaskServiceTest {
         when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
 
         // Act
-        Task result = taskService.updateTask(1L, updateRequest);
+        Task result = taskService.updateTask(1L, updateRequest, null);
 
         // Assert
         assertThat(result.getTitle()).isEqualTo(updateRequest.getTitle());
         assertThat(result.getDescription()).isEqualTo(updateRequest.getDescription());
         assertThat(result.getStatus()).isEqualTo(updateRequest.getStatus());
         verify(taskRepository).save(any(Task.class));
+        verify(taskRepository).resetDueNotifications(1L);
     }
 
     @Test
@@ -149,7 +372,7 @@ public class TaskServiceTest {
         when(taskRepository.findById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> taskService.updateTask(999L, taskRequest))
+        assertThatThrownBy(() -> taskService.updateTask(999L, taskRequest, null))
             .isInstanceOf(EntityNotFoundException.class)
             .hasMessageContaining("Task not found with ID: 999");
     }
@@ -157,52 +380,163 @@ public class TaskServiceTest {
     @Test
     public void updateTaskStatus_WithValidId_ShouldUpdateStatusAndReturnTask() {
         // Arrange
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
-        
         Task updatedTask = new Task(task1.getTitle(), task1.getDescription(), TaskStatus.COMPLETED, task1.getDueDate());
         updatedTask.setId(1L);
 
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.updateStatus(eq(1L), eq(TaskStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(1);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(updatedTask));
 
         // Act
-        Task result = taskService.updateTaskStatus(1L, TaskStatus.COMPLETED);
+        Task result = taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, null);
 
         // Assert
         assertThat(result.getStatus()).isEqualTo(TaskStatus.COMPLETED);
-        verify(taskRepository).save(any(Task.class));
+        verify(taskRepository, never()).save(any(Task.class));
     }
 
     @Test
     public void updateTaskStatus_WithInvalidId_ShouldThrowEntityNotFoundException() {
         // Arrange
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskRepository.updateStatus(eq(999L), eq(TaskStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(0);
 
         // Act & Assert
-        assertThatThrownBy(() -> taskService.updateTaskStatus(999L, TaskStatus.COMPLETED))
+        assertThatThrownBy(() -> taskService.updateTaskStatus(999L, TaskStatus.COMPLETED, null))
             .isInstanceOf(EntityNotFoundException.class)
             .hasMessageContaining("Task not found with ID: 999");
     }
 
     @Test
-    public void deleteTask_WithValidId_ShouldDeleteTask() {
+    public void updateTask_WithStaleVersion_ShouldThrowPreconditionFailedException() {
+        // Arrange
+        task1.setVersion(2L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.updateTask(1L, taskRequest, 1L))
+            .isInstanceOf(PreconditionFailedException.class);
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    public void updateTaskStatus_WithStaleVersion_ShouldThrowPreconditionFailedException() {
         // Arrange
+        when(taskRepository.updateStatusIfVersion(
+            eq(1L), eq(TaskStatus.COMPLETED), eq(1L), any(LocalDateTime.class)
+        )).thenReturn(0);
         when(taskRepository.existsById(1L)).thenReturn(true);
 
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, 1L))
+            .isInstanceOf(PreconditionFailedException.class);
+    }
+
+    @Test
+    public void updateTaskStatus_WithVersionOfMissingTask_ShouldThrowEntityNotFoundException() {
+        // Arrange
+        when(taskRepository.updateStatusIfVersion(
+            eq(999L), eq(TaskStatus.COMPLETED), eq(1L), any(LocalDateTime.class)
+        )).thenReturn(0);
+        when(taskRepository.existsById(999L)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.updateTaskStatus(999L, TaskStatus.COMPLETED, 1L))
+            .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    public void deleteTask_WithValidId_ShouldDeleteTask() {
+        // Arrange
+        when(taskRepository.deleteTaskById(1L)).thenReturn(1);
+
         // Act
         taskService.deleteTask(1L);
 
         // Assert
-        verify(taskRepository).deleteById(1L);
+        verify(taskRepository).deleteTaskById(1L);
+        verify(taskRepository, never()).existsById(1L);
+        verify(eventPublisher).publishEvent(argThat((TaskChangeEvent event) ->
+            event.getType() == TaskChangeType.DELETED && event.getTaskId().equals(1L)));
     }
 
     @Test
     public void deleteTask_WithInvalidId_ShouldThrowEntityNotFoundException() {
         // Arrange
-        when(taskRepository.existsById(999L)).thenReturn(false);
+        when(taskRepository.deleteTaskById(999L)).thenReturn(0);
 
         // Act & Assert
         assertThatThrownBy(() -> taskService.deleteTask(999L))
             .isInstanceOf(EntityNotFoundException.class)
             .hasMessageContaining("Task not found with ID: 999");
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    public void createTasks_ShouldSaveValidItemsAndReportInvalidOnes() {
+        // Arrange
+        TaskRequest invalid = new TaskRequest("", "No title", TaskStatus.TODO, LocalDateTime.now());
+        when(taskRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            Iterable<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(10L));
+            return null;
+        });
+
+        // Act
+        TaskBatchResult result = taskService.createTasks(Arrays.asList(taskRequest, invalid));
+
+        // Assert
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getItems().get(0).getStatus()).isEqualTo(TaskBatchItemStatus.CREATED);
+        assertThat(result.getItems().get(0).getId()).isEqualTo(10L);
+        assertThat(result.getItems().get(1).getStatus()).isEqualTo(TaskBatchItemStatus.INVALID);
+        assertThat(result.getItems().get(1).getErrors()).containsKey("title");
+    }
+
+    @Test
+    public void createTasks_WithTooManyItems_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        List<TaskRequest> requests = Collections.nCopies(TaskService.MAX_BATCH_SIZE + 1, taskRequest);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.createTasks(requests))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void updateTaskStatuses_ShouldUpdateFoundTasksAndReportMissing() {
+        // Arrange
+        when(taskRepository.findAllById(anyIterable())).thenReturn(List.of(task1));
+
+        // Act
+        TaskBatchResult result = taskService.updateTaskStatuses(List.of(
+            new TaskStatusUpdate(1L, TaskStatus.COMPLETED),
+            new TaskStatusUpdate(999L, TaskStatus.COMPLETED),
+            new TaskStatusUpdate(1L, null)
+        ));
+
+        // Assert
+        assertThat(task1.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(result.getItems()).extracting(TaskBatchItemResult::getStatus).containsExactly(
+            TaskBatchItemStatus.UPDATED,
+            TaskBatchItemStatus.NOT_FOUND,
+            TaskBatchItemStatus.INVALID
+        );
+    }
+
+    @Test
+    public void deleteTasks_ShouldDeleteExistingIdsInOneStatement() {
+        // Arrange
+        when(taskRepository.findExistingIds(any())).thenReturn(List.of(1L));
+
+        // Act
+        TaskBatchResult result = taskService.deleteTasks(Arrays.asList(1L, 999L, 1L));
+
+        // Assert
+        verify(taskRepository).deleteAllByIdInBatch(Set.of(1L));
+        assertThat(result.getItems()).extracting(TaskBatchItemResult::getStatus).containsExactly(
+            TaskBatchItemStatus.DELETED,
+            TaskBatchItemStatus.NOT_FOUND,
+            TaskBatchItemStatus.NOT_FOUND
+        );
     }
 }
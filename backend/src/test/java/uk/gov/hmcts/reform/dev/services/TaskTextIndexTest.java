@@ -0,0 +1,152 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import uk.gov.hmcts.reform.dev.models.task.Task;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeEvent;
+import uk.gov.hmcts.reform.dev.models.task.TaskChangeType;
+import uk.gov.hmcts.reform.dev.models.task.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskTextIndexTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskTextIndex index;
+
+    @BeforeEach
+    public void setup() {
+        index = new TaskTextIndex(taskRepository, entityManager, transactionManager, new SimpleMeterRegistry(),
+                                  Duration.ofMinutes(1), true);
+    }
+
+    @Test
+    public void search_ShouldRequireAllTermsAndRankTitleMatchesFirst() {
+        // Arrange
+        index.onTaskChange(TaskChangeEvent.of(TaskChangeType.CREATED, task(1L, "Prepare hearing", "Court bundle")));
+        index.onTaskChange(TaskChangeEvent.of(TaskChangeType.CREATED, task(2L, "Court bundle", "Prepare it")));
+        index.onTaskChange(TaskChangeEvent.of(TaskChangeType.CREATED, task(3L, "Court visit", null)));
+
+        // Act & Assert
+        assertThat(index.search("court bundle", 0, 10)).containsExactly(2L, 1L);
+        assertThat(index.search("COURT", 0, 10)).containsExactly(2L, 3L, 1L);
+        assertThat(index.search("court missing", 0, 10)).isEmpty();
+    }
+
+    @Test
+    public void search_ShouldPageThroughRankedMatches() {
+        // Arrange
+        for (long id = 1; id <= 5; id++) {
+            index.onTaskChange(TaskChangeEvent.of(TaskChangeType.CREATED, task(id, "Review", null)));
+        }
+
+        // Act & Assert
+        assertThat(index.search("review", 0, 2)).containsExactly(1L, 2L);
+        assertThat(index.search("review", 2, 2)).containsExactly(3L, 4L);
+        assertThat(index.search("review", 4, 2)).containsExactly(5L);
+    }
+
+    @Test
+    public void onTaskChange_ShouldReindexUpdatesAndDropDeletes() {
+        // Arrange
+        index.onTaskChange(TaskChangeEvent.of(TaskChangeType.CREATED, task(1L, "Draft order", null)));
+        index.onTaskChange(TaskChangeEvent.of(TaskChangeType.CREATED, task(2L, "Draft letter", null)));
+
+        // Act
+        index.onTaskChange(TaskChangeEvent.of(TaskChangeType.UPDATED, task(1L, "Final order", null)));
+        index.onTaskChange(TaskChangeEvent.deleted(2L));
+
+        // Assert
+        assertThat(index.search("draft", 0, 10)).isEmpty();
+        assertThat(index.search("final order", 0, 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void load_ShouldIndexStreamedTasksWithoutOverwritingNewerVersions() {
+        // Arrange
+        Task stale = task(1L, "Old title", null);
+        Task newer = task(1L, "New title", null);
+        newer.setVersion(2L);
+        index.onTaskChange(TaskChangeEvent.of(TaskChangeType.UPDATED, newer));
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(taskRepository.streamAllOrderById()).thenReturn(Stream.of(stale, task(2L, "Other", null)));
+
+        // Act
+        index.load();
+
+        // Assert
+        assertThat(index.search("new", 0, 10)).containsExactly(1L);
+        assertThat(index.search("old", 0, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void refresh_ShouldIndexTasksWrittenByOtherInstances() {
+        // Arrange
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(taskRepository.streamAllOrderById()).thenReturn(Stream.of(task(1L, "Draft order", null)));
+        index.load();
+        LocalDateTime loadedAt = LocalDateTime.now();
+        Task updated = task(1L, "Final order", null);
+        updated.setVersion(1L);
+        when(taskRepository.streamUpdatedSince(argThat(since -> since.isBefore(loadedAt.minusSeconds(59)))))
+            .thenReturn(Stream.of(updated, task(2L, "Hearing bundle", null)));
+
+        // Act
+        index.refresh();
+
+        // Assert
+        assertThat(index.search("draft", 0, 10)).isEmpty();
+        assertThat(index.search("order", 0, 10)).containsExactly(1L);
+        assertThat(index.search("bundle", 0, 10)).containsExactly(2L);
+    }
+
+    @Test
+    public void reconcile_ShouldDropTasksNoLongerInTable() {
+        // Arrange
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(taskRepository.streamAllOrderById()).thenReturn(Stream.of(
+            task(1L, "Review", null), task(2L, "Review", null), task(3L, "Review", null), task(4L, "Review", null)));
+        index.load();
+        when(taskRepository.streamAllIds()).thenReturn(Stream.of(1L, 3L));
+
+        // Act
+        index.reconcile();
+
+        // Assert
+        assertThat(index.search("review", 0, 10)).containsExactly(1L, 3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static Task task(Long id, String title, String description) {
+        Task task = new Task(title, description, TaskStatus.TODO, LocalDateTime.now().plusDays(1));
+        task.setId(id);
+        task.setVersion(0L);
+        return task;
+    }
+}